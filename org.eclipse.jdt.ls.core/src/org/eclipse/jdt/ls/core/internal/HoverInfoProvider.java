@@ -12,11 +12,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.ls.core.internal;
 
-import java.io.IOException;
-import java.io.Reader;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
@@ -25,7 +22,6 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.core.IBuffer;
-import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaElement;
@@ -38,6 +34,12 @@ import org.eclipse.jdt.core.ITypeParameter;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.SourceRange;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchEngine;
@@ -47,16 +49,16 @@ import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.search.SearchRequestor;
 import org.eclipse.jdt.internal.core.BinaryMember;
 import org.eclipse.jdt.ls.core.internal.handlers.CompletionResolveHandler;
+import org.eclipse.jdt.ls.core.internal.handlers.JsonRpcHelpers;
 import org.eclipse.jdt.ls.core.internal.hover.JavaElementLabels;
-import org.eclipse.jdt.ls.core.internal.javadoc.JavadocContentAccess2;
-import org.eclipse.jdt.ls.core.internal.managers.IBuildSupport;
+import org.eclipse.jdt.ls.core.internal.javadoc.JavadocCache;
+import org.eclipse.jdt.ls.core.internal.managers.SourcePrefetchJob;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.Region;
 import org.eclipse.lsp4j.MarkedString;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
-import com.google.common.io.CharStreams;
 
 public class HoverInfoProvider {
 
@@ -121,16 +123,11 @@ public class HoverInfoProvider {
 			if (monitor.isCanceled()) {
 				return cancelled(res);
 			}
-			if (JDTEnvironmentUtils.isSyntaxServer() || isResolved(curr, monitor)) {
+			if (JDTEnvironmentUtils.isSyntaxServer() || isResolved(curr, JsonRpcHelpers.toOffset(unit.getBuffer(), line, column), monitor)) {
 				IBuffer buffer = curr.getOpenable().getBuffer();
 				if (buffer == null && curr instanceof BinaryMember) {
-					IClassFile classFile = ((BinaryMember) curr).getClassFile();
-					if (classFile != null) {
-						Optional<IBuildSupport> bs = JavaLanguageServerPlugin.getProjectsManager().getBuildSupport(curr.getJavaProject().getProject());
-						if (bs.isPresent()) {
-							bs.get().discoverSource(classFile, monitor);
-						}
-					}
+					// don't wait for the sources, they'll be there for the next hovers
+					SourcePrefetchJob.getInstance().prefetch(((BinaryMember) curr).getClassFile());
 				}
 				if (monitor.isCanceled()) {
 					return cancelled(res);
@@ -162,7 +159,7 @@ public class HoverInfoProvider {
 		return res;
 	}
 
-	private boolean isResolved(IJavaElement element, IProgressMonitor monitor) throws CoreException {
+	private boolean isResolved(IJavaElement element, int offset, IProgressMonitor monitor) throws CoreException {
 		if (!(unit instanceof ICompilationUnit)) {
 			return true;
 		}
@@ -175,6 +172,10 @@ public class HoverInfoProvider {
 		if (unit.getResource() != null && !unit.getResource().exists()) {
 			return true;
 		}
+		Boolean resolved = isResolvedName(element, offset, monitor);
+		if (resolved != null) {
+			return resolved;
+		}
 		SearchPattern pattern = SearchPattern.createPattern(element, IJavaSearchConstants.ALL_OCCURRENCES);
 		final boolean[] res = new boolean[1];
 		res[0] = false;
@@ -210,6 +211,36 @@ public class HoverInfoProvider {
 		return res[0];
 	}
 
+	/**
+	 * Checks whether the name at the given offset is bound to the given type in
+	 * the shared AST of the unit.
+	 *
+	 * @return whether the name is resolved, or <code>null</code> if it can't be
+	 *         decided from the AST
+	 */
+	private Boolean isResolvedName(IJavaElement element, int offset, IProgressMonitor monitor) {
+		if (offset < 0) {
+			return null;
+		}
+		CompilationUnit ast = SharedASTCache.getInstance().getAST(unit, monitor);
+		if (ast == null) {
+			return null;
+		}
+		ASTNode node = NodeFinder.perform(ast, offset, 0);
+		if (!(node instanceof Name)) {
+			return null;
+		}
+		IBinding binding = ((Name) node).resolveBinding();
+		if (binding == null || binding.getKind() != IBinding.TYPE) {
+			return null;
+		}
+		if (binding.isRecovered()) {
+			return Boolean.FALSE;
+		}
+		IJavaElement type = ((ITypeBinding) binding).getErasure().getJavaElement();
+		return element.equals(type) ? Boolean.TRUE : null;
+	}
+
 	public static MarkedString computeSignature(IJavaElement element)  {
 		if (element == null) {
 			return null;
@@ -267,16 +298,10 @@ public class HoverInfoProvider {
 		} else if (element instanceof IMember) {
 			member= (IMember) element;
 		} else if (element instanceof IPackageFragment) {
-			Reader r = JavadocContentAccess2.getMarkdownContentReader(element);
-			if (r != null) {
-				result = getString(r);
-			}
+			result = JavadocCache.getMarkdownContent(element);
 		}
 		if (member != null) {
-			Reader r = JavadocContentAccess2.getMarkdownContentReader(member);
-			if (r != null) {
-				result = getString(r);
-			}
+			result = JavadocCache.getMarkdownContent(member);
 			if (member instanceof IMethod) {
 				String defaultValue = getDefaultValue((IMethod) member);
 				if (defaultValue != null) {
@@ -291,21 +316,6 @@ public class HoverInfoProvider {
 		return result != null ? new MarkedString(LANGUAGE_ID, result) : null;
 	}
 
-	/**
-	 * Gets the reader content as a String
-	 *
-	 * @param reader the reader
-	 * @return the reader content as string
-	 */
-	private static String getString(Reader reader) {
-		try {
-			return CharStreams.toString(reader);
-		} catch (IOException ignored) {
-			//meh
-		}
-		return null;
-	}
-
 	private class HoverException extends CoreException {
 
 		private static final long serialVersionUID = 1L;
@@ -662,6 +662,36 @@ public final class JDTUtils {
 		public Location toLocation(IJavaElement element) throws JavaModelException {
 			return JDTUtils.toLocation(element, this);
 		}
+
+		/**
+		 * Creates the range of a given java element in the given document, without
+		 * computing the URI of the element's compilation unit or class file. Useful
+		 * to convert the ranges of many elements of the same file.
+		 *
+		 * @param element
+		 * @param document the contents of the element's compilation unit or class file
+		 * @return range or null
+		 * @throws JavaModelException
+		 */
+		public Range toRange(IJavaElement element, IDocument document) throws JavaModelException {
+			if (!(element instanceof ISourceReference)) {
+				return null;
+			}
+			ISourceRange sourceRange = getRange(element);
+			if (!SourceRange.isAvailable(sourceRange)) {
+				return null;
+			}
+			Range range = newRange();
+			int offset = sourceRange.getOffset();
+			int length = sourceRange.getLength();
+			if (offset > 0 || length > 0) {
+				int[] loc = JsonRpcHelpers.toLine(document, offset);
+				int[] endLoc = JsonRpcHelpers.toLine(document, offset + length);
+				setPosition(range.getStart(), loc == null ? new int[2] : loc);
+				setPosition(range.getEnd(), endLoc == null ? new int[2] : endLoc);
+			}
+			return range;
+		}
 	}
 
 	/**
@@ -191,7 +191,7 @@ public class JavaLanguageServerPlugin extends Plugin {
 		} catch (CoreException e) {
 			logException(e.getMessage(), e);
 		}
-		contentProviderManager = new ContentProviderManager(preferenceManager);
+		contentProviderManager = new ContentProviderManager(preferenceManager, getStateLocation().toFile());
 		nonProjectDiagnosticsState = new DiagnosticsState();
 		logInfo(getClass() + " is started");
 		configureProxy();
@@ -28,6 +28,7 @@ import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.jobs.IJobManager;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.ls.core.internal.handlers.BaseInitHandler;
+import org.eclipse.jdt.ls.core.internal.managers.SourcePrefetchJob;
 import org.eclipse.m2e.core.internal.embedder.MavenExecutionContext;
 import org.eclipse.m2e.core.internal.jobs.IBackgroundProcessingQueue;
 
@@ -260,7 +261,7 @@ public final class JobHelpers {
 
 		@Override
 		public boolean matches(Job job) {
-			return ("org.eclipse.m2e.jdt.internal.DownloadSourcesJob".equals(job.getClass().getName()));
+			return job instanceof SourcePrefetchJob || ("org.eclipse.m2e.jdt.internal.DownloadSourcesJob".equals(job.getClass().getName()));
 		}
 
 	}
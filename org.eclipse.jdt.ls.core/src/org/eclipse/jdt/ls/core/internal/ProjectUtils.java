@@ -24,7 +24,6 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -376,8 +375,8 @@ public final class ProjectUtils {
 		}
 		IClasspathEntry[] rawClasspath = javaProject.getRawClasspath();
 		List<IClasspathEntry> newEntries = Arrays.stream(rawClasspath).filter(cpe -> cpe.getEntryKind() != IClasspathEntry.CPE_LIBRARY).collect(Collectors.toCollection(ArrayList::new));
-		List<IClasspathEntry> libEntries = Arrays.stream(rawClasspath).filter(cpe -> cpe.getEntryKind() == IClasspathEntry.CPE_LIBRARY && cpe.getSourceAttachmentPath() != null && cpe.getSourceAttachmentPath().toFile().exists())
-				.collect(Collectors.toCollection(ArrayList::new));
+		Map<IPath, IPath> attachedSources = Arrays.stream(rawClasspath).filter(cpe -> cpe.getEntryKind() == IClasspathEntry.CPE_LIBRARY && cpe.getSourceAttachmentPath() != null && cpe.getSourceAttachmentPath().toFile().exists())
+				.collect(Collectors.toMap(IClasspathEntry::getPath, IClasspathEntry::getSourceAttachmentPath, (first, second) -> first));
 
 		for (Map.Entry<Path, IPath> library : libraries.entrySet()) {
 			if (monitor.isCanceled()) {
@@ -385,9 +384,8 @@ public final class ProjectUtils {
 			}
 			IPath binary = new org.eclipse.core.runtime.Path(library.getKey().toString());
 			IPath source = library.getValue();
-			if (source == null && !libEntries.isEmpty()) {
-				Optional<IClasspathEntry> result = libEntries.stream().filter(cpe -> cpe.getPath().equals(binary)).findAny();
-				source = result.isPresent() ? result.get().getSourceAttachmentPath() : null;
+			if (source == null) {
+				source = attachedSources.get(binary);
 			}
 			IClasspathEntry newEntry = JavaCore.newLibraryEntry(binary, source, null);
 			JavaLanguageServerPlugin.logInfo(">> Adding " + binary + " to the classpath");
@@ -449,7 +447,20 @@ public final class ProjectUtils {
 		return Files.isRegularFile(sourcePath) ? new org.eclipse.core.runtime.Path(sourcePath.toString()) : null;
 	}
 
-	private static boolean isBinary(Path file) {
+	/**
+	 * Returns the binary jar the given source jar is attached to, or
+	 * <code>null</code> if the file is not a source jar.
+	 */
+	public static Path getBinaryForSources(Path file) {
+		String filename = file.getFileName().toString();
+		if (!filename.endsWith(SOURCE_JAR_SUFFIX)) {
+			return null;
+		}
+		String binaryName = filename.substring(0, filename.length() - SOURCE_JAR_SUFFIX.length()) + JAR_SUFFIX;
+		return file.resolveSibling(binaryName);
+	}
+
+	public static boolean isBinary(Path file) {
 		String fileName = file.getFileName().toString();
 		return (fileName.endsWith(JAR_SUFFIX)
 				//skip source jar files
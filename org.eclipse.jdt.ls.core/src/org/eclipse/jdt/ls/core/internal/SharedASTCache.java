@@ -0,0 +1,260 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.CoreASTProvider;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Multi-entry cache of the ASTs used by the request handlers, complementing
+ * the {@link CoreASTProvider}, which only keeps the AST of the active element.
+ *
+ * Entries are keyed by the type root and the parse flags, and are only reused
+ * while the source of the type root is unchanged. Concurrent requests for the
+ * same key share a single parse. ASTs with resolved bindings are discarded as
+ * soon as another compilation unit changes. The cache is bounded by the
+ * estimated size of the retained ASTs.
+ */
+public final class SharedASTCache {
+
+	/**
+	 * Parse with resolved bindings
+	 */
+	public static final int RESOLVE_BINDINGS = 1;
+
+	/**
+	 * Parse with statements recovery
+	 */
+	public static final int STATEMENTS_RECOVERY = 1 << 1;
+
+	/**
+	 * Flags of the ASTs built by the {@link CoreASTProvider}
+	 */
+	public static final int SHARED_AST = RESOLVE_BINDINGS | STATEMENTS_RECOVERY;
+
+	/**
+	 * Upper bound of the estimated size, in bytes, of the retained ASTs
+	 */
+	private static final long MAX_RETAINED_SIZE = 64 * 1024 * 1024;
+
+	private static final SharedASTCache instance = new SharedASTCache();
+
+	private final Cache<String, Entry> cache = CacheBuilder.newBuilder().maximumWeight(MAX_RETAINED_SIZE).weigher((String key, Entry entry) -> entry.size).softValues().build();
+	private final ConcurrentMap<String, Entry> parsing = new ConcurrentHashMap<>();
+	private final AtomicLong parseCount = new AtomicLong();
+
+	private SharedASTCache() {
+		JavaCore.addElementChangedListener(new InvalidationListener(), ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	public static SharedASTCache getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Returns the AST of the given type root, parsed the way the
+	 * {@link CoreASTProvider} does.
+	 *
+	 * @param input
+	 *            the type root
+	 * @param monitor
+	 *            the progress monitor
+	 * @return the AST or <code>null</code> if the type root has no source or the
+	 *         operation is cancelled
+	 */
+	public CompilationUnit getAST(ITypeRoot input, IProgressMonitor monitor) {
+		return getAST(input, SHARED_AST, monitor);
+	}
+
+	/**
+	 * Returns the AST of the given type root, parsed with the given flags.
+	 *
+	 * @param input
+	 *            the type root
+	 * @param flags
+	 *            a combination of {@link #RESOLVE_BINDINGS} and
+	 *            {@link #STATEMENTS_RECOVERY}
+	 * @param monitor
+	 *            the progress monitor
+	 * @return the AST or <code>null</code> if the type root has no source or the
+	 *         operation is cancelled
+	 */
+	public CompilationUnit getAST(ITypeRoot input, int flags, IProgressMonitor monitor) {
+		if (input == null || (monitor != null && monitor.isCanceled())) {
+			return null;
+		}
+		if (flags == SHARED_AST) {
+			// the AST of the active element is shared with the reconciler, waiting
+			// for the reconcile in progress; other elements are parsed here
+			CompilationUnit ast = CoreASTProvider.getInstance().getAST(input, CoreASTProvider.WAIT_ACTIVE_ONLY, monitor);
+			if (ast != null || (monitor != null && monitor.isCanceled())) {
+				return ast;
+			}
+		}
+		String source;
+		try {
+			source = input.getSource();
+		} catch (JavaModelException e) {
+			JavaLanguageServerPlugin.logException("Unable to read the source of " + input.getElementName(), e);
+			return null;
+		}
+		if (source == null) {
+			return null;
+		}
+		String key = input.getHandleIdentifier() + '#' + flags;
+		Entry entry = cache.getIfPresent(key);
+		if (entry != null && entry.source.equals(source)) {
+			CompilationUnit ast = entry.ast.getNow(null);
+			if (ast != null) {
+				return ast;
+			}
+		}
+		Entry newEntry = new Entry(source, (flags & RESOLVE_BINDINGS) != 0);
+		entry = parsing.compute(key, (k, current) -> current != null && current.source.equals(source) ? current : newEntry);
+		if (entry != newEntry) {
+			// another request is parsing the same source
+			CompilationUnit ast = entry.ast.join();
+			return ast != null ? ast : parse(input, flags, monitor);
+		}
+		CompilationUnit ast = null;
+		try {
+			ast = parse(input, flags, monitor);
+			if (ast != null) {
+				newEntry.size = ast.subtreeBytes();
+				cache.put(key, newEntry);
+			}
+		} finally {
+			newEntry.ast.complete(ast);
+			parsing.remove(key, newEntry);
+		}
+		return ast;
+	}
+
+	private CompilationUnit parse(ITypeRoot input, int flags, IProgressMonitor monitor) {
+		ASTParser parser = ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		boolean resolveBindings = (flags & RESOLVE_BINDINGS) != 0;
+		parser.setResolveBindings(resolveBindings);
+		parser.setBindingsRecovery(resolveBindings && IASTSharedValues.SHARED_BINDING_RECOVERY);
+		parser.setStatementsRecovery((flags & STATEMENTS_RECOVERY) != 0);
+		parser.setSource(input);
+		parseCount.incrementAndGet();
+		try {
+			return (CompilationUnit) parser.createAST(monitor);
+		} catch (OperationCanceledException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return the number of ASTs parsed by this cache
+	 */
+	public long getParseCount() {
+		return parseCount.get();
+	}
+
+	/**
+	 * Discards all the cached ASTs.
+	 */
+	public void clear() {
+		cache.invalidateAll();
+	}
+
+	/**
+	 * Discards the ASTs with resolved bindings, except the ones of the given unit.
+	 *
+	 * @param changedUnit
+	 *            the handle identifier of the only changed unit, or
+	 *            <code>null</code> to discard all of them
+	 */
+	private void invalidateBindings(String changedUnit) {
+		// a unit's own changes are caught by the source comparison
+		cache.asMap().entrySet().removeIf(e -> e.getValue().bindings && (changedUnit == null || !e.getKey().startsWith(changedUnit + '#')));
+	}
+
+	private static final class Entry {
+		private final String source;
+		private final boolean bindings;
+		private final CompletableFuture<CompilationUnit> ast = new CompletableFuture<>();
+		private volatile int size;
+
+		private Entry(String source, boolean bindings) {
+			this.source = source;
+			this.bindings = bindings;
+		}
+	}
+
+	private final class InvalidationListener implements IElementChangedListener {
+
+		/**
+		 * Marks a change affecting more than compilation units
+		 */
+		private static final String ALL = ""; //$NON-NLS-1$
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			Set<String> changes = new HashSet<>();
+			collectChanges(event.getDelta(), changes);
+			if (changes.size() == 1 && !changes.contains(ALL)) {
+				invalidateBindings(changes.iterator().next());
+			} else if (!changes.isEmpty()) {
+				invalidateBindings(null);
+			}
+		}
+
+		private void collectChanges(IJavaElementDelta delta, Set<String> changes) {
+			IJavaElement element = delta.getElement();
+			switch (element.getElementType()) {
+			case IJavaElement.COMPILATION_UNIT:
+			case IJavaElement.CLASS_FILE:
+				changes.add(element.getHandleIdentifier());
+				break;
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~IJavaElementDelta.F_CHILDREN) != 0) {
+					// classpath, archive, opening or closing changes
+					changes.add(ALL);
+				}
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					collectChanges(child, changes);
+				}
+				break;
+			default:
+				changes.add(ALL);
+				break;
+			}
+		}
+	}
+}
@@ -16,10 +16,11 @@ package org.eclipse.jdt.ls.core.internal.commands;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.dom.CompilationUnit;
-import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JobHelpers;
+import org.eclipse.jdt.ls.core.internal.SharedASTCache;
 import org.eclipse.jdt.ls.core.internal.handlers.DocumentLifeCycleHandler;
+import org.eclipse.jdt.ls.core.internal.handlers.PrecomputedDocumentViews;
 import org.eclipse.jdt.ls.core.internal.semantictokens.SemanticTokens;
 import org.eclipse.jdt.ls.core.internal.semantictokens.SemanticTokensVisitor;
 
@@ -34,8 +35,12 @@ public class SemanticTokensCommand {
 		if (typeRoot == null) {
 			return new SemanticTokens(new int[0]);
 		}
+		SemanticTokens tokens = PrecomputedDocumentViews.getInstance().getSemanticTokens(typeRoot);
+		return tokens != null ? tokens : provide(typeRoot);
+	}
 
-		CompilationUnit root = CoreASTProvider.getInstance().getAST(typeRoot, CoreASTProvider.WAIT_YES, new NullProgressMonitor());
+	public static SemanticTokens provide(ITypeRoot typeRoot) {
+		CompilationUnit root = SharedASTCache.getInstance().getAST(typeRoot, new NullProgressMonitor());
 		if (root == null) {
 			return new SemanticTokens(new int[0]);
 		}
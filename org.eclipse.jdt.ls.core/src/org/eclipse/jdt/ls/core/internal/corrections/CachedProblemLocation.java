@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.corrections;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.NodeFinder;
+import org.eclipse.jdt.internal.ui.text.correction.ProblemLocationCore;
+
+/**
+ * Problem location finding its covering and covered nodes once per AST. The
+ * quick fix sub-processors look the nodes up again and again, each lookup
+ * walking the AST from its root.
+ */
+public class CachedProblemLocation extends ProblemLocationCore {
+
+	private CompilationUnit astRoot;
+	private NodeFinder nodeFinder;
+
+	public CachedProblemLocation(int offset, int length, int id, String[] arguments, boolean isError, String markerType) {
+		super(offset, length, id, arguments, isError, markerType);
+	}
+
+	@Override
+	public ASTNode getCoveringNode(CompilationUnit astRoot) {
+		return getNodeFinder(astRoot).getCoveringNode();
+	}
+
+	@Override
+	public ASTNode getCoveredNode(CompilationUnit astRoot) {
+		return getNodeFinder(astRoot).getCoveredNode();
+	}
+
+	private synchronized NodeFinder getNodeFinder(CompilationUnit astRoot) {
+		if (nodeFinder == null || this.astRoot != astRoot) {
+			nodeFinder = new NodeFinder(astRoot, getOffset(), getLength());
+			this.astRoot = astRoot;
+		}
+		return nodeFinder;
+	}
+}
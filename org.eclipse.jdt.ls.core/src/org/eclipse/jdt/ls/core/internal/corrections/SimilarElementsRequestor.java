@@ -86,6 +86,7 @@ public class SimilarElementsRequestor extends CompletionRequestor {
 		String identifier= ASTNodes.getSimpleNameIdentifier(name);
 		String returnType= null;
 		ICompilationUnit preparedCU= null;
+		String source= null;
 
 		try {
 			if (name.isQualifiedName()) {
@@ -97,6 +98,13 @@ public class SimilarElementsRequestor extends CompletionRequestor {
 			if (javadoc != null) {
 				preparedCU= createPreparedCU(cu, javadoc, name.getStartPosition());
 				cu= preparedCU;
+			} else {
+				// the unresolved names of a unit are looked up again on every code action request
+				source= cu.getSource();
+				SimilarElement[] elements= source == null ? null : SimilarTypesCache.getInstance().get(cu, source, name.getFullyQualifiedName(), kind);
+				if (elements != null) {
+					return elements;
+				}
 			}
 
 			SimilarElementsRequestor requestor = new SimilarElementsRequestor(identifier, kind, nArguments, returnType, !isTestSource(cu));
@@ -119,7 +127,11 @@ public class SimilarElementsRequestor extends CompletionRequestor {
 			requestor.setIgnored(CompletionProposal.VARIABLE_DECLARATION, true);
 			requestor.setIgnored(CompletionProposal.POTENTIAL_METHOD_DECLARATION, true);
 			requestor.setIgnored(CompletionProposal.METHOD_NAME_REFERENCE, true);
-			return requestor.process(cu, pos);
+			SimilarElement[] elements= requestor.process(cu, pos);
+			if (source != null) {
+				SimilarTypesCache.getInstance().put(cu, source, name.getFullyQualifiedName(), kind, elements);
+			}
+			return elements;
 		} finally {
 			if (preparedCU != null) {
 				preparedCU.discardWorkingCopy();
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.corrections;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Cache of the types similar to the unresolved type names of the compilation
+ * units, keyed by unit, name and type kinds.
+ *
+ * The similar types of a unit are reused while its source is unchanged. A
+ * change adding or removing types, or a classpath change, discards all the
+ * similar types. Results including type variables or types declared in the
+ * unit depend on the position of the name, and are not cached.
+ */
+final class SimilarTypesCache {
+
+	private static final int MAX_UNITS = 64;
+
+	private static final SimilarTypesCache instance = new SimilarTypesCache();
+
+	private final Cache<String, UnitTypes> units = CacheBuilder.newBuilder().maximumSize(MAX_UNITS).build();
+
+	private SimilarTypesCache() {
+		JavaCore.addElementChangedListener(new InvalidationListener(), ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	static SimilarTypesCache getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Returns the cached types similar to the given name in the given unit.
+	 *
+	 * @return the similar types, or <code>null</code> if they are unknown or
+	 *         out of date
+	 */
+	SimilarElement[] get(ICompilationUnit cu, String source, String name, int kind) {
+		UnitTypes unitTypes = units.getIfPresent(cu.getHandleIdentifier());
+		if (unitTypes == null || !unitTypes.source.equals(source)) {
+			return null;
+		}
+		SimilarElement[] elements = unitTypes.elements.get(getKey(name, kind));
+		return elements == null ? null : elements.clone();
+	}
+
+	/**
+	 * Caches the types similar to the given name in the given unit, if they
+	 * don't depend on the position of the name.
+	 */
+	void put(ICompilationUnit cu, String source, String name, int kind, SimilarElement[] elements) {
+		if (!isPositionIndependent(cu, elements)) {
+			return;
+		}
+		String handle = cu.getHandleIdentifier();
+		UnitTypes unitTypes = units.getIfPresent(handle);
+		if (unitTypes == null || !unitTypes.source.equals(source)) {
+			unitTypes = new UnitTypes(source);
+			units.put(handle, unitTypes);
+		}
+		unitTypes.elements.put(getKey(name, kind), elements.clone());
+	}
+
+	/**
+	 * Discards all the similar types.
+	 */
+	void clear() {
+		units.invalidateAll();
+	}
+
+	private static String getKey(String name, int kind) {
+		return name + '#' + kind;
+	}
+
+	private static boolean isPositionIndependent(ICompilationUnit cu, SimilarElement[] elements) {
+		IType[] types;
+		try {
+			types = cu.getTypes();
+		} catch (JavaModelException e) {
+			return false;
+		}
+		for (SimilarElement element : elements) {
+			if ((element.getKind() & SimilarElementsRequestor.VARIABLES) != 0) {
+				return false;
+			}
+			// member and local types of the unit
+			for (IType type : types) {
+				String typeName = type.getFullyQualifiedName();
+				String elementName = element.getName();
+				if (elementName.startsWith(typeName) && (elementName.length() == typeName.length() || elementName.charAt(typeName.length()) == '.' || elementName.charAt(typeName.length()) == '$')) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static final class UnitTypes {
+		private final String source;
+		private final Map<String, SimilarElement[]> elements = new ConcurrentHashMap<>();
+
+		private UnitTypes(String source) {
+			this.source = source;
+		}
+	}
+
+	private final class InvalidationListener implements IElementChangedListener {
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			if (affectsTypes(event.getDelta())) {
+				clear();
+			}
+		}
+
+		private boolean affectsTypes(IJavaElementDelta delta) {
+			switch (delta.getElement().getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~IJavaElementDelta.F_CHILDREN) != 0) {
+					// classpath, archive, opening or closing changes
+					return true;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+			case IJavaElement.CLASS_FILE:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					return true;
+				}
+				if ((delta.getFlags() & IJavaElementDelta.F_CONTENT) != 0 && (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0) {
+					// saved or modified outside of a working copy, the types are unknown
+					return true;
+				}
+				break;
+			case IJavaElement.TYPE:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & IJavaElementDelta.F_MODIFIERS) != 0) {
+					return true;
+				}
+				break;
+			default:
+				return false;
+			}
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (affectsTypes(child)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
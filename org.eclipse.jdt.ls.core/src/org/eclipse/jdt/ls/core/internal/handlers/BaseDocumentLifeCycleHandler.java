@@ -76,6 +76,7 @@ public abstract class BaseDocumentLifeCycleHandler {
 	private WorkspaceJob validationTimer;
 	private WorkspaceJob publishDiagnosticsJob;
 	private Set<ICompilationUnit> toReconcile = new HashSet<>();
+	private Set<ICompilationUnit> toPrecompute = new HashSet<>();
 
 	public BaseDocumentLifeCycleHandler(boolean delayValidation) {
 		this.sharedASTProvider = CoreASTProvider.getInstance();
@@ -122,6 +123,7 @@ public abstract class BaseDocumentLifeCycleHandler {
 	}
 
 	protected void triggerValidation(ICompilationUnit cu, long delay) throws JavaModelException {
+		PrecomputedDocumentViews.getInstance().cancel(cu);
 		synchronized (toReconcile) {
 			toReconcile.add(cu);
 			if (!cu.equals(sharedASTProvider.getActiveJavaElement())) {
@@ -180,6 +182,9 @@ public abstract class BaseDocumentLifeCycleHandler {
 			//cu.reconcile(ICompilationUnit.NO_AST, false, null, progress.newChild(1));
 		}
 		JavaLanguageServerPlugin.logInfo("Reconciled " + cusToReconcile.size() + ". Took " + (System.currentTimeMillis() - start) + " ms");
+		synchronized (toPrecompute) {
+			toPrecompute.addAll(cusToReconcile);
+		}
 		if (monitor.isCanceled()) {
 			return Status.CANCEL_STATUS;
 		}
@@ -229,6 +234,13 @@ public abstract class BaseDocumentLifeCycleHandler {
 			}
 		}
 		JavaLanguageServerPlugin.logInfo("Validated " + toValidate.size() + ". Took " + (System.currentTimeMillis() - start) + " ms");
+		// the ASTs of the reconciled units are available now
+		List<ICompilationUnit> reconciled;
+		synchronized (toPrecompute) {
+			reconciled = new ArrayList<>(toPrecompute);
+			toPrecompute.clear();
+		}
+		PrecomputedDocumentViews.getInstance().schedule(reconciled);
 		return Status.OK_STATUS;
 	}
 
@@ -424,6 +436,10 @@ public abstract class BaseDocumentLifeCycleHandler {
 			synchronized (toReconcile) {
 				toReconcile.remove(unit);
 			}
+			synchronized (toPrecompute) {
+				toPrecompute.remove(unit);
+			}
+			PrecomputedDocumentViews.getInstance().cancel(unit);
 			if (isSyntaxMode(unit) || !unit.exists() || unit.getResource().isDerived()) {
 				createDiagnosticsHandler(unit).clearDiagnostics();
 			} else if (hasUnsavedChanges(unit)) {
@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4j.CallHierarchyIncomingCall;
+import org.eclipse.lsp4j.CallHierarchyOutgoingCall;
+
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Cache of the call graph of the call hierarchy, keyed by member. The incoming
+ * and outgoing calls of a member are kept until a unit they depend on changes:
+ * <ul>
+ * <li>the incoming calls depend on the unit of the member, the units of the
+ * callers, and the units that may call the member, whose source contains its
+ * name;</li>
+ * <li>the outgoing calls depend on the unit of the member and the units of the
+ * callees, and on the units added or removed.</li>
+ * </ul>
+ * The calls of binary members are discarded with the classpath changes.
+ */
+final class CallHierarchyCache {
+
+	private static final int MAX_MEMBERS = 256;
+
+	private static final CallHierarchyCache instance = new CallHierarchyCache();
+
+	private final Cache<String, Node> nodes = CacheBuilder.newBuilder().maximumSize(MAX_MEMBERS).build();
+	/**
+	 * Incremented on every change of the Java model
+	 */
+	private long modelStamp;
+
+	private CallHierarchyCache() {
+		JavaCore.addElementChangedListener(new InvalidationListener(), ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	static CallHierarchyCache getInstance() {
+		return instance;
+	}
+
+	synchronized long getModelStamp() {
+		return modelStamp;
+	}
+
+	/**
+	 * Returns the cached incoming calls of the given member.
+	 *
+	 * @return the incoming calls, or <code>null</code> if they are unknown or
+	 *         out of date
+	 */
+	synchronized List<CallHierarchyIncomingCall> getIncomingCalls(IMember member) {
+		Node node = nodes.getIfPresent(member.getHandleIdentifier());
+		return node == null || node.incomingCalls == null ? null : new ArrayList<>(node.incomingCalls);
+	}
+
+	/**
+	 * Returns the cached outgoing calls of the given member.
+	 *
+	 * @return the outgoing calls, or <code>null</code> if they are unknown or
+	 *         out of date
+	 */
+	synchronized List<CallHierarchyOutgoingCall> getOutgoingCalls(IMember member) {
+		Node node = nodes.getIfPresent(member.getHandleIdentifier());
+		return node == null || node.outgoingCalls == null ? null : new ArrayList<>(node.outgoingCalls);
+	}
+
+	/**
+	 * Caches the incoming calls of the given member from the given callers,
+	 * unless the Java model changed since the given model stamp.
+	 */
+	synchronized void putIncomingCalls(IMember member, List<CallHierarchyIncomingCall> calls, Collection<IMember> callers, long stamp) {
+		if (stamp != modelStamp) {
+			return;
+		}
+		Node node = getNode(member);
+		node.incomingCalls = new ArrayList<>(calls);
+		node.incomingUnits = getUnits(member, callers);
+	}
+
+	/**
+	 * Caches the outgoing calls of the given member to the given callees,
+	 * unless the Java model changed since the given model stamp.
+	 */
+	synchronized void putOutgoingCalls(IMember member, List<CallHierarchyOutgoingCall> calls, Collection<IMember> callees, long stamp) {
+		if (stamp != modelStamp) {
+			return;
+		}
+		Node node = getNode(member);
+		node.outgoingCalls = new ArrayList<>(calls);
+		node.outgoingUnits = getUnits(member, callees);
+	}
+
+	synchronized void clear() {
+		nodes.invalidateAll();
+	}
+
+	private Node getNode(IMember member) {
+		String key = member.getHandleIdentifier();
+		Node node = nodes.getIfPresent(key);
+		if (node == null) {
+			node = new Node(member.getElementName());
+			nodes.put(key, node);
+		}
+		return node;
+	}
+
+	private static Set<String> getUnits(IMember member, Collection<IMember> others) {
+		Set<String> units = new HashSet<>();
+		addUnit(member, units);
+		for (IMember other : others) {
+			addUnit(other, units);
+		}
+		return units;
+	}
+
+	private static void addUnit(IMember member, Set<String> units) {
+		ICompilationUnit unit = member == null ? null : member.getCompilationUnit();
+		if (unit != null) {
+			units.add(unit.getPrimary().getHandleIdentifier());
+		}
+	}
+
+	private synchronized void invalidate(IJavaElementDelta delta) {
+		ICompilationUnit unit = (ICompilationUnit) delta.getElement();
+		String handle = unit.getPrimary().getHandleIdentifier();
+		boolean changed = delta.getKind() == IJavaElementDelta.CHANGED;
+		boolean removed = delta.getKind() == IJavaElementDelta.REMOVED;
+		Supplier<String> source = Suppliers.memoize(() -> getSource(unit));
+		for (Node node : nodes.asMap().values()) {
+			if (node.incomingCalls != null && (node.incomingUnits.contains(handle) || !removed && node.mayBeCalledFrom(source.get()))) {
+				node.incomingCalls = null;
+			}
+			if (node.outgoingCalls != null && (!changed || node.outgoingUnits.contains(handle))) {
+				node.outgoingCalls = null;
+			}
+		}
+		nodes.asMap().values().removeIf(node -> node.incomingCalls == null && node.outgoingCalls == null);
+	}
+
+	private static String getSource(ICompilationUnit unit) {
+		try {
+			return unit.getSource();
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+
+	private static final class Node {
+		private final String name;
+		private List<CallHierarchyIncomingCall> incomingCalls;
+		private Set<String> incomingUnits;
+		private List<CallHierarchyOutgoingCall> outgoingCalls;
+		private Set<String> outgoingUnits;
+
+		private Node(String name) {
+			this.name = name;
+		}
+
+		private boolean mayBeCalledFrom(String source) {
+			// initializers have no name
+			return source == null || name.isEmpty() || source.contains(name);
+		}
+	}
+
+	private final class InvalidationListener implements IElementChangedListener {
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			List<IJavaElementDelta> unitDeltas = new ArrayList<>();
+			boolean unitsOnly = collectUnitDeltas(event.getDelta(), unitDeltas);
+			synchronized (CallHierarchyCache.this) {
+				modelStamp++;
+				if (!unitsOnly) {
+					clear();
+					return;
+				}
+				for (IJavaElementDelta unitDelta : unitDeltas) {
+					invalidate(unitDelta);
+				}
+			}
+		}
+
+		/**
+		 * Collects the deltas of the compilation units.
+		 *
+		 * @return <code>false</code> if other elements changed
+		 */
+		private boolean collectUnitDeltas(IJavaElementDelta delta, List<IJavaElementDelta> unitDeltas) {
+			switch (delta.getElement().getElementType()) {
+			case IJavaElement.COMPILATION_UNIT:
+				unitDeltas.add(delta);
+				return true;
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~IJavaElementDelta.F_CHILDREN) != 0) {
+					// classpath, archive, opening or closing changes
+					return false;
+				}
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					if (!collectUnitDeltas(child, unitDeltas)) {
+						return false;
+					}
+				}
+				return true;
+			default:
+				return false;
+			}
+		}
+	}
+}
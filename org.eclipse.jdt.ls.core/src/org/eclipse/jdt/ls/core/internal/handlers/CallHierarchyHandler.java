@@ -20,10 +20,11 @@ import static org.eclipse.jdt.core.IJavaElement.COMPILATION_UNIT;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.Assert;
@@ -59,16 +60,10 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.SymbolTag;
 
 public class CallHierarchyHandler {
-	private static Map<IJavaElement, MethodWrapper> incomingMethodWrapperCache = new ConcurrentHashMap<>();
-	private static Map<IJavaElement, MethodWrapper> outgoingMethodWrapperCache = new ConcurrentHashMap<>();
 
 	public List<CallHierarchyItem> prepareCallHierarchy(CallHierarchyPrepareParams params, IProgressMonitor monitor) {
 		Assert.isNotNull(params, "params");
 
-		// trigger call hierarchy at a new position, clean the method wrapper cache.
-		incomingMethodWrapperCache.clear();
-		outgoingMethodWrapperCache.clear();
-
 		String uri = params.getTextDocument().getUri();
 		int line = params.getPosition().getLine();
 		int character = params.getPosition().getCharacter();
@@ -173,8 +168,42 @@ public class CallHierarchyHandler {
 
 		checkMonitor(monitor);
 
-		MethodWrapper wrapper = incomingMethodWrapperCache.containsKey(candidate) ?
-			incomingMethodWrapperCache.get(candidate) : getCallRoot(candidate, true);
+		CallHierarchyCache cache = CallHierarchyCache.getInstance();
+		List<CallHierarchyIncomingCall> cachedCalls = cache.getIncomingCalls(candidate);
+		if (cachedCalls != null) {
+			return cachedCalls;
+		}
+		long stamp = cache.getModelStamp();
+
+		// the callers of methods and fields are searched per project concurrently
+		Map<IMember, List<CallLocation>> callers = CallerSearch.canSearch(candidate) ? CallerSearch.search(candidate, monitor) : getCallers(candidate, monitor);
+		if (callers == null) {
+			return null;
+		}
+
+		List<IMember> members = new ArrayList<>();
+		List<CallHierarchyItem> symbols = new ArrayList<>();
+		List<Collection<CallLocation>> callLocations = new ArrayList<>();
+		for (Map.Entry<IMember, List<CallLocation>> caller : callers.entrySet()) {
+			members.add(caller.getKey());
+			symbols.add(toCallHierarchyItem(caller.getKey()));
+			callLocations.add(caller.getValue());
+		}
+
+		List<List<Range>> ranges = toCallRanges(callLocations);
+		List<CallHierarchyIncomingCall> result = new ArrayList<>();
+		for (int i = 0; i < symbols.size(); i++) {
+			result.add(new CallHierarchyIncomingCall(symbols.get(i), ranges.get(i)));
+		}
+
+		if (monitor == null || !monitor.isCanceled()) {
+			cache.putIncomingCalls(candidate, result, members, stamp);
+		}
+		return result;
+	}
+
+	private Map<IMember, List<CallLocation>> getCallers(IMember member, IProgressMonitor monitor) {
+		MethodWrapper wrapper = getCallRoot(member, true);
 		if (wrapper == null) {
 			return null;
 		}
@@ -184,18 +213,11 @@ public class CallHierarchyHandler {
 			return null;
 		}
 
-		List<CallHierarchyIncomingCall> result = new ArrayList<>();
+		Map<IMember, List<CallLocation>> callers = new LinkedHashMap<>();
 		for (MethodWrapper call : calls) {
-			IMember member = call.getMember();
-			if (member != null) {
-				incomingMethodWrapperCache.put(member, call);
-			}
-			CallHierarchyItem symbol = toCallHierarchyItem(call.getMember());
-			List<Range> ranges = toCallRanges(call.getMethodCall().getCallLocations());
-			result.add(new CallHierarchyIncomingCall(symbol, ranges));
+			callers.put(call.getMember(), new ArrayList<>(call.getMethodCall().getCallLocations()));
 		}
-
-		return result;
+		return callers;
 	}
 
 	private List<CallHierarchyOutgoingCall> getOutgoingCallItemsAt(String uri, int line, int character, IProgressMonitor monitor) throws JavaModelException {
@@ -206,7 +228,14 @@ public class CallHierarchyHandler {
 
 		checkMonitor(monitor);
 
-		MethodWrapper wrapper = outgoingMethodWrapperCache.containsKey(candidate) ? outgoingMethodWrapperCache.get(candidate) : getCallRoot(candidate, false);
+		CallHierarchyCache cache = CallHierarchyCache.getInstance();
+		List<CallHierarchyOutgoingCall> cachedCalls = cache.getOutgoingCalls(candidate);
+		if (cachedCalls != null) {
+			return cachedCalls;
+		}
+		long stamp = cache.getModelStamp();
+
+		MethodWrapper wrapper = getCallRoot(candidate, false);
 		if (wrapper == null) {
 			return null;
 		}
@@ -216,17 +245,24 @@ public class CallHierarchyHandler {
 			return null;
 		}
 
-		List<CallHierarchyOutgoingCall> result = new ArrayList<>();
+		List<IMember> members = new ArrayList<>();
+		List<CallHierarchyItem> symbols = new ArrayList<>();
+		List<Collection<CallLocation>> callLocations = new ArrayList<>();
 		for (MethodWrapper call : calls) {
-			IMember member = call.getMember();
-			if (member != null) {
-				outgoingMethodWrapperCache.put(member, call);
-			}
-			CallHierarchyItem symbol = toCallHierarchyItem(call.getMember());
-			List<Range> ranges = toCallRanges(call.getMethodCall().getCallLocations());
-			result.add(new CallHierarchyOutgoingCall(symbol, ranges));
+			members.add(call.getMember());
+			symbols.add(toCallHierarchyItem(call.getMember()));
+			callLocations.add(call.getMethodCall().getCallLocations());
 		}
 
+		List<List<Range>> ranges = toCallRanges(callLocations);
+		List<CallHierarchyOutgoingCall> result = new ArrayList<>();
+		for (int i = 0; i < symbols.size(); i++) {
+			result.add(new CallHierarchyOutgoingCall(symbols.get(i), ranges.get(i)));
+		}
+
+		if (monitor == null || !monitor.isCanceled()) {
+			cache.putOutgoingCalls(candidate, result, members, stamp);
+		}
 		return result;
 	}
 
@@ -273,24 +309,54 @@ public class CallHierarchyHandler {
 		return item;
 	}
 
-	private List<Range> toCallRanges(Collection<CallLocation> callLocations) {
-		List<Range> ranges = new ArrayList<>();
-		if (callLocations != null) {
-			for (CallLocation location : callLocations) {
-				IOpenable openable = location.getMember().getCompilationUnit();
-				if (openable == null) {
-					openable = location.getMember().getTypeRoot();
+	/**
+	 * Converts the call locations of each call to ranges. The call locations of
+	 * all the calls are grouped per file, so that each file is opened and its
+	 * lines are computed once.
+	 */
+	private List<List<Range>> toCallRanges(List<Collection<CallLocation>> callLocations) {
+		Map<IOpenable, List<CallLocation>> locationsByFile = new LinkedHashMap<>();
+		for (Collection<CallLocation> locations : callLocations) {
+			if (locations != null) {
+				for (CallLocation location : locations) {
+					IOpenable openable = location.getMember().getCompilationUnit();
+					if (openable == null) {
+						openable = location.getMember().getTypeRoot();
+					}
+					locationsByFile.computeIfAbsent(openable, k -> new ArrayList<>()).add(location);
 				}
-				int[] start = JsonRpcHelpers.toLine(openable, location.getStart());
-				int[] end = JsonRpcHelpers.toLine(openable, location.getEnd());
+			}
+		}
+
+		Map<CallLocation, Range> callRanges = new IdentityHashMap<>();
+		for (Map.Entry<IOpenable, List<CallLocation>> entry : locationsByFile.entrySet()) {
+			List<CallLocation> locations = entry.getValue();
+			int[] offsets = new int[locations.size() * 2];
+			for (int i = 0; i < locations.size(); i++) {
+				offsets[2 * i] = locations.get(i).getStart();
+				offsets[2 * i + 1] = locations.get(i).getEnd();
+			}
+			int[][] lines = JsonRpcHelpers.toLines(entry.getKey(), offsets);
+			for (int i = 0; i < locations.size(); i++) {
+				int[] start = lines[2 * i];
+				int[] end = lines[2 * i + 1];
 				Assert.isNotNull(start, "start");
 				Assert.isNotNull(end, "end");
 				// Assert.isLegal(start[0] == end[0], "Expected equal start and end lines. Start was: " + Arrays.toString(start) + " End was:" + Arrays.toString(end));
-				Range callRange = new Range(new Position(start[0], start[1]), new Position(end[0], end[1]));
-				ranges.add(callRange);
+				callRanges.put(locations.get(i), new Range(new Position(start[0], start[1]), new Position(end[0], end[1])));
 			}
 		}
 
+		List<List<Range>> ranges = new ArrayList<>(callLocations.size());
+		for (Collection<CallLocation> locations : callLocations) {
+			List<Range> callRangesOfCall = new ArrayList<>();
+			if (locations != null) {
+				for (CallLocation location : locations) {
+					callRangesOfCall.add(callRanges.get(location));
+				}
+			}
+			ranges.add(callRangesOfCall);
+		}
 		return ranges;
 	}
 
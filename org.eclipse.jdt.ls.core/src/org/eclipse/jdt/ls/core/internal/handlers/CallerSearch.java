@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallLocation;
+import org.eclipse.jdt.internal.corext.util.JdtFlags;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Searches the callers of a method or a field, like the incoming calls of a
+ * {@link org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper
+ * MethodWrapper}. The workspace is partitioned per project, each partition
+ * holding the source folders of the project and the libraries not already
+ * held by another partition, and the partitions are searched concurrently on
+ * a small pool of daemon threads owned by the search, which the callers don't
+ * share with other requests. The callers of a private member are searched in its
+ * compilation unit, or its package for a class file, only.
+ */
+final class CallerSearch {
+
+	private static final int MATCH_RULE = SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE | SearchPattern.R_ERASURE_MATCH;
+	private static final int MAX_CONCURRENT_SEARCHES = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+	private static final long POLL_INTERVAL_MS = 100;
+
+	private static final ThreadPoolExecutor SEARCH_EXECUTOR = createExecutor();
+
+	private CallerSearch() {
+		//avoid instantiation
+	}
+
+	/**
+	 * Returns whether the callers of the given member are the references to
+	 * the member. The callers of a type or an initializer are the invocations
+	 * of its constructors, and the callers of the members of anonymous, local
+	 * or lambda types are their enclosing members, which
+	 * {@link org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper
+	 * MethodWrapper} resolves.
+	 */
+	static boolean canSearch(IMember member) throws JavaModelException {
+		int elementType = member.getElementType();
+		if (elementType != IJavaElement.METHOD && elementType != IJavaElement.FIELD) {
+			return false;
+		}
+		IType declaringType = member.getDeclaringType();
+		return declaringType != null && !declaringType.isAnonymous() && !declaringType.isLocal() && !declaringType.isLambda();
+	}
+
+	/**
+	 * Searches the callers of the given member, which can be searched.
+	 *
+	 * @return the call locations of each caller, keyed by caller
+	 * @throws OperationCanceledException
+	 *             if the search is cancelled
+	 */
+	static Map<IMember, List<CallLocation>> search(IMember member, IProgressMonitor monitor) throws JavaModelException {
+		SearchPattern pattern = SearchPattern.createPattern(member, IJavaSearchConstants.REFERENCES, MATCH_RULE);
+		if (pattern == null) {
+			return Collections.emptyMap();
+		}
+		List<IJavaSearchScope> partitions = getPartitions(member);
+		SubMonitor progress = SubMonitor.convert(monitor, partitions.size());
+		List<List<CallLocation>> results = new ArrayList<>(Collections.nCopies(partitions.size(), Collections.emptyList()));
+		if (partitions.size() == 1) {
+			results.set(0, search(member, pattern, partitions.get(0), progress.newChild(1)));
+		} else {
+			// the workers only check the cancellation, the progress is reported here
+			IProgressMonitor partitionMonitor = new NullProgressMonitor() {
+				@Override
+				public boolean isCanceled() {
+					return progress.isCanceled();
+				}
+			};
+			CompletionService<Integer> searches = new ExecutorCompletionService<>(SEARCH_EXECUTOR);
+			List<Future<Integer>> futures = new ArrayList<>(partitions.size());
+			try {
+				for (int i = 0; i < partitions.size(); i++) {
+					int partition = i;
+					futures.add(searches.submit(() -> {
+						results.set(partition, search(member, pattern, partitions.get(partition), partitionMonitor));
+						return partition;
+					}));
+				}
+				int done = 0;
+				while (done < partitions.size()) {
+					if (progress.isCanceled()) {
+						throw new OperationCanceledException();
+					}
+					Future<Integer> search = searches.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+					if (search == null) {
+						continue;
+					}
+					try {
+						search.get();
+					} catch (ExecutionException e) {
+						if (!(e.getCause() instanceof OperationCanceledException)) {
+							JavaLanguageServerPlugin.logException(e.getCause().getMessage(), e.getCause());
+						}
+					}
+					done++;
+					progress.worked(1);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} finally {
+				// the partitions not searched yet are dropped when cancelled
+				futures.forEach(future -> future.cancel(false));
+			}
+		}
+		if (progress.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+		return merge(results);
+	}
+
+	private static ThreadPoolExecutor createExecutor() {
+		ThreadFactory threadFactory = new ThreadFactoryBuilder().setNameFormat("Caller search %d").setDaemon(true).build();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_CONCURRENT_SEARCHES, MAX_CONCURRENT_SEARCHES, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private static List<IJavaSearchScope> getPartitions(IMember member) throws JavaModelException {
+		List<IJavaSearchScope> partitions = new ArrayList<>();
+		if (JdtFlags.isPrivate(member)) {
+			// the member may be called from an inner class of its class file
+			IJavaElement scope = member.getCompilationUnit() != null ? member.getCompilationUnit() : member.getAncestor(IJavaElement.PACKAGE_FRAGMENT);
+			partitions.add(SearchEngine.createJavaSearchScope(new IJavaElement[] { scope }));
+			return partitions;
+		}
+		Set<IPath> libraries = new HashSet<>();
+		for (IJavaProject project : JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects()) {
+			List<IJavaElement> roots = new ArrayList<>();
+			for (IPackageFragmentRoot root : project.getPackageFragmentRoots()) {
+				// the libraries shared by projects are searched once
+				if (root.getKind() == IPackageFragmentRoot.K_SOURCE || libraries.add(root.getPath())) {
+					roots.add(root);
+				}
+			}
+			if (!roots.isEmpty()) {
+				partitions.add(SearchEngine.createJavaSearchScope(roots.toArray(new IJavaElement[roots.size()])));
+			}
+		}
+		return partitions;
+	}
+
+	private static List<CallLocation> search(IMember member, SearchPattern pattern, IJavaSearchScope scope, IProgressMonitor monitor) {
+		List<CallLocation> locations = new ArrayList<>();
+		try {
+			new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope, new SearchRequestor() {
+
+				@Override
+				public void acceptSearchMatch(SearchMatch match) {
+					if (match.getAccuracy() != SearchMatch.A_ACCURATE || match.isInsideDocComment() || !(match.getElement() instanceof IMember)) {
+						return;
+					}
+					IMember caller = (IMember) match.getElement();
+					switch (caller.getElementType()) {
+					case IJavaElement.METHOD:
+					case IJavaElement.TYPE:
+					case IJavaElement.FIELD:
+					case IJavaElement.INITIALIZER:
+						locations.add(new CallLocation(caller, member, match.getOffset(), match.getOffset() + match.getLength(), CallLocation.UNKNOWN_LINE_NUMBER));
+						break;
+					default:
+						break;
+					}
+				}
+			}, monitor);
+		} catch (CoreException e) {
+			JavaLanguageServerPlugin.logException("Problem searching the callers of " + member.getElementName(), e);
+		}
+		return locations;
+	}
+
+	/**
+	 * Merges the call locations of the partitions, in the order of the
+	 * partitions, without duplicates.
+	 */
+	private static Map<IMember, List<CallLocation>> merge(List<List<CallLocation>> results) {
+		Map<IMember, List<CallLocation>> callers = new LinkedHashMap<>();
+		Map<IMember, Set<Integer>> offsets = new HashMap<>();
+		for (List<CallLocation> locations : results) {
+			for (CallLocation location : locations) {
+				IMember caller = location.getMember();
+				if (offsets.computeIfAbsent(caller, k -> new HashSet<>()).add(location.getStart())) {
+					callers.computeIfAbsent(caller, k -> new ArrayList<>()).add(location);
+				}
+			}
+		}
+		return callers;
+	}
+}
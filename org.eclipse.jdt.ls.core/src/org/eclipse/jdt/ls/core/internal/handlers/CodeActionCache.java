@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.ls.core.internal.preferences.ClientPreferences;
+import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
+import org.eclipse.jdt.ls.core.internal.preferences.Preferences;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.CodeActionParams;
+import org.eclipse.lsp4j.Command;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Cache of the code actions of the last requests, keyed by document, range,
+ * diagnostics and requested kinds. The code actions are reused while the
+ * source of the document, the Java model and the preferences are unchanged.
+ * The proposals hold ASTs and working copies, so all the entries are dropped
+ * on every change of the Java model.
+ */
+final class CodeActionCache {
+
+	private static final int MAX_REQUESTS = 32;
+
+	private static final CodeActionCache instance = new CodeActionCache();
+
+	/**
+	 * Incremented on every change of the Java model
+	 */
+	private final AtomicLong modelStamp = new AtomicLong();
+	private final Cache<String, Entry> cache = CacheBuilder.newBuilder().maximumSize(MAX_REQUESTS).build();
+
+	private CodeActionCache() {
+		JavaCore.addElementChangedListener(event -> {
+			modelStamp.incrementAndGet();
+			cache.invalidateAll();
+		}, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	static CodeActionCache getInstance() {
+		return instance;
+	}
+
+	long getModelStamp() {
+		return modelStamp.get();
+	}
+
+	/**
+	 * Returns copies of the cached code actions of the given request, the data
+	 * of the code actions being the proposals they were created from.
+	 *
+	 * @return the code actions or <code>null</code> if they are unknown or out
+	 *         of date
+	 */
+	List<Either<Command, CodeAction>> get(CodeActionParams params, String source, PreferenceManager preferenceManager, Map<String, Object> formattingOptions) {
+		String key = getKey(params);
+		Entry entry = cache.getIfPresent(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.modelStamp != modelStamp.get() || !entry.source.equals(source) || !entry.isValid(preferenceManager, formattingOptions)) {
+			cache.invalidate(key);
+			return null;
+		}
+		List<Either<Command, CodeAction>> codeActions = new ArrayList<>(entry.codeActions.size());
+		for (Either<Command, CodeAction> codeAction : entry.codeActions) {
+			codeActions.add(codeAction.isRight() ? Either.forRight(copy(codeAction.getRight())) : codeAction);
+		}
+		return codeActions;
+	}
+
+	/**
+	 * Caches the code actions of the given request, computed at the given model
+	 * stamp.
+	 */
+	void put(CodeActionParams params, String source, long stamp, PreferenceManager preferenceManager, Map<String, Object> formattingOptions, List<Either<Command, CodeAction>> codeActions) {
+		if (stamp != modelStamp.get()) {
+			// out of date already
+			return;
+		}
+		List<Either<Command, CodeAction>> copies = new ArrayList<>(codeActions.size());
+		for (Either<Command, CodeAction> codeAction : codeActions) {
+			copies.add(codeAction.isRight() ? Either.forRight(copy(codeAction.getRight())) : codeAction);
+		}
+		cache.put(getKey(params), new Entry(source, stamp, preferenceManager, formattingOptions, copies));
+	}
+
+	void clear() {
+		cache.invalidateAll();
+	}
+
+	private static String getKey(CodeActionParams params) {
+		// the parameters are mutable
+		return params.toString();
+	}
+
+	private static CodeAction copy(CodeAction codeAction) {
+		CodeAction copy = new CodeAction(codeAction.getTitle());
+		copy.setKind(codeAction.getKind());
+		copy.setDiagnostics(codeAction.getDiagnostics());
+		copy.setEdit(codeAction.getEdit());
+		copy.setCommand(codeAction.getCommand());
+		copy.setData(codeAction.getData());
+		return copy;
+	}
+
+	private static final class Entry {
+		private final String source;
+		private final long modelStamp;
+		private final PreferenceManager preferenceManager;
+		private final Preferences preferences;
+		private final ClientPreferences clientPreferences;
+		private final Map<String, Object> formattingOptions;
+		private final List<Either<Command, CodeAction>> codeActions;
+
+		private Entry(String source, long modelStamp, PreferenceManager preferenceManager, Map<String, Object> formattingOptions, List<Either<Command, CodeAction>> codeActions) {
+			this.source = source;
+			this.modelStamp = modelStamp;
+			this.preferenceManager = preferenceManager;
+			this.preferences = preferenceManager.getPreferences();
+			this.clientPreferences = preferenceManager.getClientPreferences();
+			this.formattingOptions = formattingOptions;
+			this.codeActions = codeActions;
+		}
+
+		private boolean isValid(PreferenceManager preferenceManager, Map<String, Object> formattingOptions) {
+			// preferences are replaced when they change
+			return this.preferenceManager == preferenceManager && preferences == preferenceManager.getPreferences() && clientPreferences == preferenceManager.getClientPreferences()
+					&& Objects.equals(this.formattingOptions, formattingOptions);
+		}
+	}
+}
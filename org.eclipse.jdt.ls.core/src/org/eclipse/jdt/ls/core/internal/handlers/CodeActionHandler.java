@@ -17,9 +17,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
@@ -30,15 +32,16 @@ import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaModelMarker;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
-import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.internal.ui.text.correction.IProblemLocationCore;
-import org.eclipse.jdt.internal.ui.text.correction.ProblemLocationCore;
 import org.eclipse.jdt.ls.core.internal.ChangeUtil;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaCodeActionKind;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.jdt.ls.core.internal.SharedASTCache;
+import org.eclipse.jdt.ls.core.internal.corrections.CachedProblemLocation;
 import org.eclipse.jdt.ls.core.internal.corrections.DiagnosticsHelper;
 import org.eclipse.jdt.ls.core.internal.corrections.InnovationContext;
 import org.eclipse.jdt.ls.core.internal.corrections.QuickFixProcessor;
@@ -63,9 +66,21 @@ import org.eclipse.lsp4j.WorkspaceEdit;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 public class CodeActionHandler {
+	private static final int MAX_DEFERRED_RESPONSES = 64;
 	public static final ResponseStore<Either<ChangeCorrectionProposal, CodeActionProposal>> codeActionStore
 		= new ResponseStore<>(ForkJoinPool.commonPool().getParallelism());
+	/**
+	 * Proposals of the {@link #COMMAND_ID_APPLY_CODE_ACTION} commands. They're
+	 * kept longer than the resolvable code actions, since the command is only
+	 * executed once the user picked a code action, after a few more requests.
+	 */
+	public static final ResponseStore<ChangeCorrectionProposal> deferredProposalStore = new ResponseStore<>(MAX_DEFERRED_RESPONSES);
 	public static final String COMMAND_ID_APPLY_EDIT = "java.apply.workspaceEdit";
+	/**
+	 * Applies the edit of a code action proposal, computed when the command is
+	 * executed
+	 */
+	public static final String COMMAND_ID_APPLY_CODE_ACTION = "java.edit.applyCodeAction";
 
 	private QuickFixProcessor quickFixProcessor;
 	private RefactorProcessor refactorProcessor;
@@ -119,6 +134,25 @@ public class CodeActionHandler {
 			}
 		}
 
+		// clients request the code actions of their open documents on every cursor move
+		CodeActionCache cache = CodeActionCache.getInstance();
+		long modelStamp = cache.getModelStamp();
+		String source = null;
+		if (unit.isWorkingCopy()) {
+			try {
+				source = unit.getSource();
+			} catch (JavaModelException e) {
+				// don't cache
+			}
+		}
+		if (source != null) {
+			List<Either<Command, CodeAction>> cachedActions = cache.get(params, source, preferenceManager, formattingOptions);
+			if (cachedActions != null) {
+				populateDataFields(cachedActions);
+				return cachedActions;
+			}
+		}
+
 		CompilationUnit astRoot = getASTRoot(unit, monitor);
 		if (astRoot == null || monitor.isCanceled()) {
 			return Collections.emptyList();
@@ -150,6 +184,8 @@ public class CodeActionHandler {
 			codeActionKinds.addAll(defaultCodeActionKinds);
 		}
 
+		// the processors run one after another: they resolve bindings and create
+		// rewrites on the shared AST, which isn't thread safe
 		List<Either<Command, CodeAction>> codeActions = new ArrayList<>();
 		List<ChangeCorrectionProposal> proposals = new ArrayList<>();
 		ChangeCorrectionProposalComparator comparator = new ChangeCorrectionProposalComparator();
@@ -192,9 +228,10 @@ public class CodeActionHandler {
 			return Collections.emptyList();
 		}
 		try {
+			Set<Either<Command, CodeAction>> knownActions = new HashSet<>(codeActions);
 			for (ChangeCorrectionProposal proposal : proposals) {
 				Optional<Either<Command, CodeAction>> codeActionFromProposal = getCodeActionFromProposal(proposal, params.getContext());
-				if (codeActionFromProposal.isPresent() && !codeActions.contains(codeActionFromProposal.get())) {
+				if (codeActionFromProposal.isPresent() && knownActions.add(codeActionFromProposal.get())) {
 					codeActions.add(codeActionFromProposal.get());
 				}
 			}
@@ -211,6 +248,9 @@ public class CodeActionHandler {
 			return Collections.emptyList();
 		}
 
+		if (source != null) {
+			cache.put(params, source, modelStamp, preferenceManager, formattingOptions, codeActions);
+		}
 		populateDataFields(codeActions);
 		return codeActions;
 	}
@@ -218,8 +258,17 @@ public class CodeActionHandler {
 	private void populateDataFields(List<Either<Command, CodeAction>> codeActions) {
 		ResponseStore.ResponseItem<Either<ChangeCorrectionProposal, CodeActionProposal>> response = codeActionStore.createResponse();
 		List<Either<ChangeCorrectionProposal, CodeActionProposal>> proposals = new ArrayList<>();
-		codeActions.forEach(action -> {
-			if (action.isRight()) {
+		ResponseStore.ResponseItem<ChangeCorrectionProposal> deferredResponse = deferredProposalStore.createResponse();
+		List<ChangeCorrectionProposal> deferredProposals = new ArrayList<>();
+		for (int i = 0; i < codeActions.size(); i++) {
+			Either<Command, CodeAction> action = codeActions.get(i);
+			if (action.isLeft()) {
+				Command command = toDeferredCommand(action.getLeft(), deferredResponse, deferredProposals);
+				if (command != action.getLeft()) {
+					codeActions.set(i, Either.forLeft(command));
+				}
+			} else {
+				action.getRight().setCommand(toDeferredCommand(action.getRight().getCommand(), deferredResponse, deferredProposals));
 				Either<ChangeCorrectionProposal, CodeActionProposal> proposal = null;
 				if (action.getRight().getData() instanceof ChangeCorrectionProposal) {
 					proposal = Either.forLeft((ChangeCorrectionProposal) action.getRight().getData());
@@ -227,7 +276,7 @@ public class CodeActionHandler {
 					proposal = Either.forRight((CodeActionProposal) action.getRight().getData());
 				} else {
 					action.getRight().setData(null);
-					return;
+					continue;
 				}
 
 				Map<String, String> data = new HashMap<>();
@@ -236,12 +285,31 @@ public class CodeActionHandler {
 				action.getRight().setData(data);
 				proposals.add(proposal);
 			}
-		});
+		}
 
 		if (!proposals.isEmpty()) {
 			response.setProposals(proposals);
 			codeActionStore.store(response);
 		}
+		if (!deferredProposals.isEmpty()) {
+			deferredResponse.setProposals(deferredProposals);
+			deferredProposalStore.store(deferredResponse);
+		}
+	}
+
+	/**
+	 * Replaces the proposal argument of a deferred command with its handle in
+	 * the deferred proposal store. The command is not modified, since it may be
+	 * cached.
+	 */
+	private static Command toDeferredCommand(Command command, ResponseStore.ResponseItem<ChangeCorrectionProposal> response, List<ChangeCorrectionProposal> proposals) {
+		if (command == null || !COMMAND_ID_APPLY_CODE_ACTION.equals(command.getCommand()) || command.getArguments() == null || command.getArguments().size() != 1
+				|| !(command.getArguments().get(0) instanceof ChangeCorrectionProposal)) {
+			return command;
+		}
+		List<Object> arguments = Arrays.asList(String.valueOf(response.getId()), String.valueOf(proposals.size()));
+		proposals.add((ChangeCorrectionProposal) command.getArguments().get(0));
+		return new Command(command.getTitle(), COMMAND_ID_APPLY_CODE_ACTION, arguments);
 	}
 
 	private Optional<Either<Command, CodeAction>> getCodeActionFromProposal(ChangeCorrectionProposal proposal, CodeActionContext context) throws CoreException {
@@ -259,11 +327,16 @@ public class CodeActionHandler {
 			command = new Command(name, commandProposal.getCommand(), commandProposal.getCommandArguments());
 		} else {
 			if (!this.preferenceManager.getClientPreferences().isResolveCodeActionSupported()) {
-				WorkspaceEdit edit = ChangeUtil.convertToWorkspaceEdit(proposal.getChange());
-				if (!ChangeUtil.hasChanges(edit)) {
-					return Optional.empty();
+				if (this.preferenceManager.getClientPreferences().isWorkspaceApplyEditSupported()) {
+					// the edit is computed when the command is executed, the user picks a single proposal
+					command = new Command(name, COMMAND_ID_APPLY_CODE_ACTION, Collections.singletonList(proposal));
+				} else {
+					WorkspaceEdit edit = ChangeUtil.convertToWorkspaceEdit(proposal.getChange());
+					if (!ChangeUtil.hasChanges(edit)) {
+						return Optional.empty();
+					}
+					command = new Command(name, COMMAND_ID_APPLY_EDIT, Collections.singletonList(edit));
 				}
-				command = new Command(name, COMMAND_ID_APPLY_EDIT, Collections.singletonList(edit));
 			}
 		}
 
@@ -291,7 +364,7 @@ public class CodeActionHandler {
 			int start = DiagnosticsHelper.getStartOffset(unit, diagnostic.getRange());
 			int end = DiagnosticsHelper.getEndOffset(unit, diagnostic.getRange());
 			boolean isError = diagnostic.getSeverity() == DiagnosticSeverity.Error;
-			locations[i] = new ProblemLocationCore(start, end - start, problemId, new String[0], isError, IJavaModelMarker.JAVA_MODEL_PROBLEM_MARKER);
+			locations[i] = new CachedProblemLocation(start, end - start, problemId, new String[0], isError, IJavaModelMarker.JAVA_MODEL_PROBLEM_MARKER);
 		}
 		return locations;
 	}
@@ -318,7 +391,7 @@ public class CodeActionHandler {
 	}
 
 	public static CompilationUnit getASTRoot(ICompilationUnit unit, IProgressMonitor monitor) {
-		return CoreASTProvider.getInstance().getAST(unit, CoreASTProvider.WAIT_YES, monitor);
+		return SharedASTCache.getInstance().getAST(unit, monitor);
 	}
 
 	private static class ChangeCorrectionProposalComparator implements Comparator<ChangeCorrectionProposal> {
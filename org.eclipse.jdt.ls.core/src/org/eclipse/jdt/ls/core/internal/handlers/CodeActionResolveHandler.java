@@ -13,6 +13,7 @@
 
 package org.eclipse.jdt.ls.core.internal.handlers;
 
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
@@ -34,24 +35,66 @@ public class CodeActionResolveHandler {
 		// clean resolve data
 		params.setData(null);
 
-		int proposalId = Integer.parseInt(data.get(DATA_FIELD_PROPOSAL_ID));
-		long requestId = Long.parseLong(data.get(DATA_FIELD_REQUEST_ID));
-		ResponseStore.ResponseItem<Either<ChangeCorrectionProposal, CodeActionProposal>> response = CodeActionHandler.codeActionStore.get(requestId);
-		if (response == null || response.getProposals().size() <= proposalId) {
+		Either<ChangeCorrectionProposal, CodeActionProposal> proposal = getProposal(data.get(DATA_FIELD_REQUEST_ID), data.get(DATA_FIELD_PROPOSAL_ID));
+		if (proposal == null) {
 			throw new IllegalStateException("Invalid codeAction proposal");
 		}
 
+		WorkspaceEdit edit = resolveEdit(proposal, monitor);
+		if (ChangeUtil.hasChanges(edit)) {
+			params.setEdit(edit);
+		}
+
+		return params;
+	}
+
+	/**
+	 * Computes the edit of the proposal of a
+	 * {@link CodeActionHandler#COMMAND_ID_APPLY_CODE_ACTION} command.
+	 *
+	 * @param arguments
+	 *            the request id and the proposal id
+	 * @return the edit of the proposal, or <code>null</code> if it can't be
+	 *         computed, or the proposal is no longer stored
+	 */
+	public static WorkspaceEdit resolveEdit(List<Object> arguments, IProgressMonitor monitor) {
+		if (arguments == null || arguments.size() != 2) {
+			throw new IllegalArgumentException("Invalid codeAction arguments");
+		}
+		ChangeCorrectionProposal proposal = getDeferredProposal(JSONUtility.toModel(arguments.get(0), String.class), JSONUtility.toModel(arguments.get(1), String.class));
+		if (proposal == null) {
+			// the store only keeps the proposals of the last code action requests
+			JavaLanguageServerPlugin.logInfo("The code action proposal is no longer available");
+			return null;
+		}
+		return resolveEdit(Either.forLeft(proposal), monitor);
+	}
+
+	private static Either<ChangeCorrectionProposal, CodeActionProposal> getProposal(String requestId, String proposalId) {
+		int proposalIndex = Integer.parseInt(proposalId);
+		ResponseStore.ResponseItem<Either<ChangeCorrectionProposal, CodeActionProposal>> response = CodeActionHandler.codeActionStore.get(Long.parseLong(requestId));
+		if (response == null || response.getProposals().size() <= proposalIndex) {
+			return null;
+		}
+		return response.getProposals().get(proposalIndex);
+	}
+
+	private static ChangeCorrectionProposal getDeferredProposal(String requestId, String proposalId) {
+		int proposalIndex = Integer.parseInt(proposalId);
+		ResponseStore.ResponseItem<ChangeCorrectionProposal> response = CodeActionHandler.deferredProposalStore.get(Long.parseLong(requestId));
+		if (response == null || response.getProposals().size() <= proposalIndex) {
+			return null;
+		}
+		return response.getProposals().get(proposalIndex);
+	}
+
+	private static WorkspaceEdit resolveEdit(Either<ChangeCorrectionProposal, CodeActionProposal> proposal, IProgressMonitor monitor) {
 		try {
-			Either<ChangeCorrectionProposal, CodeActionProposal> proposal = response.getProposals().get(proposalId);
-			WorkspaceEdit edit = proposal.isLeft() ? ChangeUtil.convertToWorkspaceEdit(proposal.getLeft().getChange())
+			return proposal.isLeft() ? ChangeUtil.convertToWorkspaceEdit(proposal.getLeft().getChange())
 				: proposal.getRight().resolveEdit(monitor);
-			if (ChangeUtil.hasChanges(edit)) {
-				params.setEdit(edit);
-			}
 		} catch (CoreException e) {
 			JavaLanguageServerPlugin.logException("Problem converting code action proposal to workspace edit", e);
+			return null;
 		}
-
-		return params;
 	}
 }
@@ -93,11 +93,17 @@ public class CodeLensHandler {
 		}
 		try {
 			ITypeRoot typeRoot = JDTUtils.resolveTypeRoot(uri);
-			if (typeRoot != null) {
+			if (typeRoot != null && typeRoot.exists() && REFERENCES_TYPE.equals(type)) {
+				// the references of all the members are searched at once
+				List<IJavaElement> elements = new ArrayList<>();
+				collectCodeLensElements(typeRoot.getChildren(), elements, monitor);
+				locations = CodeLensReferences.getInstance().getReferences(typeRoot, position, elements, monitor);
+			}
+			if (typeRoot != null && locations == null) {
 				IJavaElement element = JDTUtils.findElementAtSelection(typeRoot, position.getLine(), position.getCharacter(), this.preferenceManager, monitor);
 				if (REFERENCES_TYPE.equals(type)) {
 					try {
-						locations = findReferences(element, monitor);
+						locations = element == null ? null : findReferences(element, createSearchScope(), monitor);
 					} catch (CoreException e) {
 						JavaLanguageServerPlugin.logException(e.getMessage(), e);
 					}
@@ -136,16 +142,14 @@ public class CodeLensHandler {
 		return searcher.findImplementations(monitor);
 	}
 
-	private List<Location> findReferences(IJavaElement element, IProgressMonitor monitor)
+	static List<Location> findReferences(IJavaElement element, IJavaSearchScope scope, IProgressMonitor monitor)
 			throws JavaModelException, CoreException {
-		if (element == null) {
-			return Collections.emptyList();
-		}
 		SearchPattern pattern = SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
 		final List<Location> result = new ArrayList<>();
+		LocationConverter converter = new LocationConverter();
 		SearchEngine engine = new SearchEngine();
 		engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
-				createSearchScope(), new SearchRequestor() {
+				scope, new SearchRequestor() {
 
 			@Override
 			public void acceptSearchMatch(SearchMatch match) throws CoreException {
@@ -157,11 +161,14 @@ public class CodeLensHandler {
 					if (compilationUnit == null) {
 						return;
 					}
-					Location location = JDTUtils.toLocation(compilationUnit, match.getOffset(), match.getLength());
-					result.add(location);
+					Location location = converter.add(compilationUnit, match.getOffset(), match.getLength());
+					if (location != null) {
+						result.add(location);
+					}
 				}
 			}
 		}, monitor);
+		converter.resolve(monitor);
 
 		return result;
 	}
@@ -197,28 +204,15 @@ public class CodeLensHandler {
 		return Collections.emptyList();
 	}
 
-	private void collectCodeLenses(ITypeRoot typeRoot, IJavaElement[] elements, Collection<CodeLens> lenses,
+	private void collectCodeLenses(ITypeRoot typeRoot, IJavaElement[] children, Collection<CodeLens> lenses,
 			IProgressMonitor monitor)
 			throws JavaModelException {
+		List<IJavaElement> elements = new ArrayList<>();
+		collectCodeLensElements(children, elements, monitor);
 		for (IJavaElement element : elements) {
 			if (monitor.isCanceled()) {
 				return;
 			}
-			if (element.getElementType() == IJavaElement.TYPE) {
-				collectCodeLenses(typeRoot, ((IType) element).getChildren(), lenses, monitor);
-			} else if (element.getElementType() == IJavaElement.METHOD) {
-				if (JDTUtils.isHiddenGeneratedElement(element)) {
-					continue;
-				}
-				//ignore element if method range overlaps the type range, happens for generated bytcode, i.e. with lombok
-				IJavaElement parentType = element.getAncestor(IJavaElement.TYPE);
-				if (parentType != null && overlaps(((ISourceReference) parentType).getNameRange(), ((ISourceReference) element).getNameRange())) {
-					continue;
-				}
-			} else {//neither a type nor a method, we bail
-				continue;
-			}
-
 			if (preferenceManager.getPreferences().isReferencesCodeLensEnabled()) {
 				CodeLens lens = getCodeLens(REFERENCES_TYPE, element, typeRoot);
 				if (lens != null) {
@@ -237,6 +231,33 @@ public class CodeLensHandler {
 		}
 	}
 
+	/**
+	 * Collects the types and methods bearing code lenses, the members of a type
+	 * before the type.
+	 */
+	private void collectCodeLensElements(IJavaElement[] elements, List<IJavaElement> result, IProgressMonitor monitor) throws JavaModelException {
+		for (IJavaElement element : elements) {
+			if (monitor.isCanceled()) {
+				return;
+			}
+			if (element.getElementType() == IJavaElement.TYPE) {
+				collectCodeLensElements(((IType) element).getChildren(), result, monitor);
+			} else if (element.getElementType() == IJavaElement.METHOD) {
+				if (JDTUtils.isHiddenGeneratedElement(element)) {
+					continue;
+				}
+				//ignore element if method range overlaps the type range, happens for generated bytcode, i.e. with lombok
+				IJavaElement parentType = element.getAncestor(IJavaElement.TYPE);
+				if (parentType != null && overlaps(((ISourceReference) parentType).getNameRange(), ((ISourceReference) element).getNameRange())) {
+					continue;
+				}
+			} else {//neither a type nor a method, we bail
+				continue;
+			}
+			result.add(element);
+		}
+	}
+
 	private boolean overlaps(ISourceRange typeRange, ISourceRange methodRange) {
 		if (typeRange == null || methodRange == null) {
 			return false;
@@ -258,7 +279,7 @@ public class CodeLensHandler {
 		return lens;
 	}
 
-	private IJavaSearchScope createSearchScope() throws JavaModelException {
+	static IJavaSearchScope createSearchScope() throws JavaModelException {
 		IJavaProject[] projects = JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects();
 		return SearchEngine.createJavaSearchScope(projects, IJavaSearchScope.SOURCES);
 	}
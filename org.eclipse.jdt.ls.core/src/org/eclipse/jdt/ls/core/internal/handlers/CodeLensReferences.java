@@ -0,0 +1,432 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.ISourceRange;
+import org.eclipse.jdt.core.ISourceReference;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.ConstructorReferenceMatch;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.MethodReferenceMatch;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.jdt.core.search.TypeReferenceMatch;
+import org.eclipse.jdt.ls.core.internal.JDTUtils;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.jdt.ls.core.internal.ResourceUtils;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+
+/**
+ * Reverse reference table of the members of the type roots bearing a
+ * references code lens, keyed by the member, with the locations of the
+ * references as postings.
+ *
+ * The references of all the members of a type root are found with a single
+ * search, and attributed to the members by name. The members sharing a name
+ * with another searched member, like overloaded methods, are searched
+ * separately.
+ *
+ * The table is updated incrementally: when only the method bodies or the
+ * imports of some compilation units change, the references are searched again
+ * in these units only. Structural and classpath changes discard the table.
+ */
+final class CodeLensReferences {
+
+	/**
+	 * Maximum number of type roots in the table
+	 */
+	private static final int MAX_BATCHES = 64;
+
+	private static final CodeLensReferences instance = new CodeLensReferences();
+
+	private final ConcurrentMap<String, Batch> batches = new ConcurrentHashMap<>();
+
+	private CodeLensReferences() {
+		JavaCore.addElementChangedListener(new UpdateListener(), ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	static CodeLensReferences getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Returns the references of the member whose name starts at the given
+	 * position, searching the references of all the members of the type root
+	 * on the first request.
+	 *
+	 * @param typeRoot
+	 *            the type root
+	 * @param position
+	 *            the start of the name of the member
+	 * @param elements
+	 *            the members bearing a references code lens
+	 * @param monitor
+	 *            the progress monitor
+	 * @return the references, or <code>null</code> if the member is unknown or
+	 *         the search is cancelled
+	 */
+	List<Location> getReferences(ITypeRoot typeRoot, Position position, List<IJavaElement> elements, IProgressMonitor monitor) {
+		String key = typeRoot.getHandleIdentifier();
+		if (batches.size() >= MAX_BATCHES && !batches.containsKey(key)) {
+			// keep the table bounded, the references are searched again on demand
+			batches.clear();
+		}
+		Batch newBatch = new Batch();
+		Batch batch = batches.compute(key, (k, current) -> current != null && !current.computed.isCompletedExceptionally() ? current : newBatch);
+		if (batch == newBatch) {
+			try {
+				Map<IJavaElement, List<Location>> references = search(elements, createSearchScope(), monitor);
+				synchronized (newBatch) {
+					newBatch.references = references;
+					for (IJavaElement element : references.keySet()) {
+						ISourceRange range = ((ISourceReference) element).getNameRange();
+						if (range != null) {
+							newBatch.elements.put(JDTUtils.toRange(typeRoot, range.getOffset(), range.getLength()).getStart(), element);
+						}
+					}
+				}
+				newBatch.computed.complete(null);
+			} catch (CoreException | RuntimeException e) {
+				newBatch.computed.completeExceptionally(e);
+				batches.remove(key, newBatch);
+				if (!(e instanceof OperationCanceledException)) {
+					JavaLanguageServerPlugin.logException("Problem searching the references of " + typeRoot.getElementName(), e);
+				}
+				return null;
+			}
+		}
+		try {
+			batch.computed.join();
+		} catch (RuntimeException e) {
+			// the request computing the references was cancelled
+			return null;
+		}
+		IJavaElement element;
+		synchronized (batch) {
+			element = batch.elements.get(position);
+		}
+		return element == null ? null : getReferences(batch, element, monitor);
+	}
+
+	/**
+	 * Returns the references of the given member, if they were already searched.
+	 *
+	 * @param element
+	 *            a type or a method
+	 * @param monitor
+	 *            the progress monitor
+	 * @return the references, or <code>null</code> if they are unknown
+	 */
+	List<Location> getKnownReferences(IJavaElement element, IProgressMonitor monitor) {
+		IJavaElement typeRoot = element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		Batch batch = typeRoot == null ? null : batches.get(typeRoot.getHandleIdentifier());
+		if (batch == null || !batch.computed.isDone() || batch.computed.isCompletedExceptionally()) {
+			return null;
+		}
+		synchronized (batch) {
+			if (!batch.references.containsKey(element)) {
+				return null;
+			}
+		}
+		return getReferences(batch, element, monitor);
+	}
+
+	/**
+	 * Returns the references of the given member, searching them again in the
+	 * changed units first. The search runs without holding the lock of the
+	 * batch, which the listener takes on the delta thread.
+	 */
+	private List<Location> getReferences(Batch batch, IJavaElement element, IProgressMonitor monitor) {
+		Map<IJavaElement, List<Location>> references;
+		List<ICompilationUnit> units;
+		int modificationCount;
+		synchronized (batch) {
+			references = batch.references;
+			units = new ArrayList<>(batch.changedUnits);
+			modificationCount = batch.modificationCount;
+		}
+		if (!units.isEmpty()) {
+			Map<IJavaElement, List<Location>> updated;
+			try {
+				updated = update(references, units, monitor);
+			} catch (CoreException | OperationCanceledException e) {
+				return null;
+			}
+			synchronized (batch) {
+				if (batch.references == references) {
+					batch.references = updated;
+					if (batch.modificationCount == modificationCount) {
+						// otherwise, the units changed again during the search
+						batch.changedUnits.removeAll(units);
+					}
+				}
+			}
+			references = updated;
+		}
+		List<Location> locations = references.get(element);
+		return locations == null ? null : new ArrayList<>(locations);
+	}
+
+	/**
+	 * Returns the given references, with the ones found in the given units
+	 * searched again.
+	 */
+	private Map<IJavaElement, List<Location>> update(Map<IJavaElement, List<Location>> current, List<ICompilationUnit> units, IProgressMonitor monitor) throws CoreException {
+		Set<String> uris = new HashSet<>();
+		for (ICompilationUnit unit : units) {
+			uris.add(ResourceUtils.toClientUri(JDTUtils.toURI(unit)));
+		}
+		IJavaSearchScope scope = SearchEngine.createJavaSearchScope(units.toArray(new IJavaElement[units.size()]));
+		Map<IJavaElement, List<Location>> found = search(new ArrayList<>(current.keySet()), scope, monitor);
+		Map<IJavaElement, List<Location>> references = new HashMap<>();
+		for (Map.Entry<IJavaElement, List<Location>> entry : current.entrySet()) {
+			List<Location> locations = new ArrayList<>();
+			for (Location location : entry.getValue()) {
+				if (!uris.contains(location.getUri())) {
+					locations.add(location);
+				}
+			}
+			locations.addAll(found.getOrDefault(entry.getKey(), Collections.emptyList()));
+			references.put(entry.getKey(), locations);
+		}
+		return references;
+	}
+
+	private Map<IJavaElement, List<Location>> search(List<IJavaElement> elements, IJavaSearchScope scope, IProgressMonitor monitor) throws CoreException {
+		Map<IJavaElement, List<Location>> references = new HashMap<>();
+		Map<String, List<IJavaElement>> typesByName = new HashMap<>();
+		Map<String, List<IJavaElement>> methodsByName = new HashMap<>();
+		SearchPattern pattern = null;
+		for (IJavaElement element : elements) {
+			SearchPattern elementPattern = SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+			if (elementPattern == null) {
+				continue;
+			}
+			pattern = pattern == null ? elementPattern : SearchPattern.createOrPattern(pattern, elementPattern);
+			references.put(element, new ArrayList<>());
+			Map<String, List<IJavaElement>> byName = element.getElementType() == IJavaElement.TYPE ? typesByName : methodsByName;
+			byName.computeIfAbsent(element.getElementName(), k -> new ArrayList<>()).add(element);
+		}
+		// members searched separately
+		Set<IJavaElement> ambiguous = new HashSet<>();
+		typesByName.values().stream().filter(l -> l.size() > 1).forEach(ambiguous::addAll);
+		methodsByName.values().stream().filter(l -> l.size() > 1).forEach(ambiguous::addAll);
+		if (pattern != null && ambiguous.size() < references.size()) {
+			LocationConverter converter = new LocationConverter();
+			new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope, new SearchRequestor() {
+
+				@Override
+				public void acceptSearchMatch(SearchMatch match) throws CoreException {
+					ICompilationUnit unit = getCompilationUnit(match);
+					if (unit == null) {
+						return;
+					}
+					List<IJavaElement> candidates = getCandidates(unit, match, typesByName, methodsByName);
+					if (candidates.size() == 1) {
+						Location location = ambiguous.contains(candidates.get(0)) ? null : converter.add(unit, match.getOffset(), match.getLength());
+						if (location != null) {
+							references.get(candidates.get(0)).add(location);
+						}
+					} else {
+						// unknown reference, search the possible members separately
+						ambiguous.addAll(candidates.isEmpty() ? (match instanceof TypeReferenceMatch ? flatten(typesByName) : flatten(methodsByName)) : candidates);
+					}
+				}
+			}, monitor);
+			converter.resolve(monitor);
+		}
+		for (IJavaElement element : ambiguous) {
+			references.put(element, CodeLensHandler.findReferences(element, scope, monitor));
+		}
+		return references;
+	}
+
+	private static ICompilationUnit getCompilationUnit(SearchMatch match) {
+		Object o = match.getElement();
+		return o instanceof IJavaElement ? (ICompilationUnit) ((IJavaElement) o).getAncestor(IJavaElement.COMPILATION_UNIT) : null;
+	}
+
+	/**
+	 * Returns the searched members the given match may refer to.
+	 */
+	private static List<IJavaElement> getCandidates(ICompilationUnit unit, SearchMatch match, Map<String, List<IJavaElement>> typesByName, Map<String, List<IJavaElement>> methodsByName) throws CoreException {
+		IBuffer buffer = unit.getBuffer();
+		if (buffer == null || match.getOffset() + match.getLength() > buffer.getLength()) {
+			return new ArrayList<>();
+		}
+		String text = buffer.getText(match.getOffset(), match.getLength());
+		List<IJavaElement> candidates = new ArrayList<>();
+		if (match instanceof TypeReferenceMatch) {
+			// the simple name ends a qualified reference
+			int end = text.indexOf('<');
+			String name = (end < 0 ? text : text.substring(0, end)).trim();
+			name = name.substring(name.lastIndexOf('.') + 1).trim();
+			candidates.addAll(typesByName.getOrDefault(name, new ArrayList<>()));
+		} else if (match instanceof MethodReferenceMatch) {
+			for (Map.Entry<String, List<IJavaElement>> entry : methodsByName.entrySet()) {
+				if (containsIdentifier(text, entry.getKey())) {
+					candidates.addAll(entry.getValue());
+				}
+			}
+		} else if (match instanceof ConstructorReferenceMatch) {
+			List<IJavaElement> constructors = new ArrayList<>();
+			for (IJavaElement method : flatten(methodsByName)) {
+				if (((IMethod) method).isConstructor()) {
+					constructors.add(method);
+				}
+			}
+			// a class instance creation names the type of the constructor
+			for (IJavaElement constructor : constructors) {
+				if (containsIdentifier(text, constructor.getElementName())) {
+					candidates.add(constructor);
+				}
+			}
+			if (candidates.isEmpty() && (match.isImplicit() || text.startsWith("this") || text.startsWith("super"))) {
+				// explicit or implicit constructor invocation
+				candidates.addAll(constructors);
+			}
+		}
+		return candidates;
+	}
+
+	private static boolean containsIdentifier(String text, String identifier) {
+		int index = text.indexOf(identifier);
+		while (index >= 0) {
+			int end = index + identifier.length();
+			if ((index == 0 || !Character.isJavaIdentifierPart(text.charAt(index - 1))) && (end == text.length() || !Character.isJavaIdentifierPart(text.charAt(end)))) {
+				return true;
+			}
+			index = text.indexOf(identifier, end);
+		}
+		return false;
+	}
+
+	private static List<IJavaElement> flatten(Map<String, List<IJavaElement>> elementsByName) {
+		List<IJavaElement> elements = new ArrayList<>();
+		elementsByName.values().forEach(elements::addAll);
+		return elements;
+	}
+
+	private static IJavaSearchScope createSearchScope() throws CoreException {
+		return CodeLensHandler.createSearchScope();
+	}
+
+	private static final class Batch {
+		private final CompletableFuture<Void> computed = new CompletableFuture<>();
+		private final Map<Position, IJavaElement> elements = new HashMap<>();
+		private Map<IJavaElement, List<Location>> references = Collections.emptyMap();
+		/**
+		 * Units whose references changed since the last update
+		 */
+		private final Set<ICompilationUnit> changedUnits = new LinkedHashSet<>();
+		/**
+		 * Number of times units were added to the changed units
+		 */
+		private int modificationCount;
+	}
+
+	private final class UpdateListener implements IElementChangedListener {
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			Set<ICompilationUnit> units = new HashSet<>();
+			if (!collectChangedUnits(event.getDelta(), units)) {
+				batches.clear();
+				return;
+			}
+			if (units.isEmpty()) {
+				return;
+			}
+			for (ICompilationUnit unit : units) {
+				// the positions of the members of the unit may have changed
+				batches.remove(unit.getHandleIdentifier());
+			}
+			for (Batch batch : batches.values()) {
+				synchronized (batch) {
+					batch.changedUnits.addAll(units);
+					batch.modificationCount++;
+				}
+			}
+		}
+
+		/**
+		 * Collects the units whose method bodies or imports changed.
+		 *
+		 * @return <code>false</code> if other elements changed
+		 */
+		private boolean collectChangedUnits(IJavaElementDelta delta, Set<ICompilationUnit> units) {
+			IJavaElement element = delta.getElement();
+			switch (element.getElementType()) {
+			case IJavaElement.COMPILATION_UNIT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					return false;
+				}
+				if ((delta.getFlags() & IJavaElementDelta.F_CONTENT) != 0 && (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0) {
+					// the delta does not tell which members changed, e.g. the file was saved or replaced outside of a working copy
+					return false;
+				}
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					int type = child.getElement().getElementType();
+					if (type != IJavaElement.IMPORT_CONTAINER && type != IJavaElement.IMPORT_DECLARATION) {
+						return false;
+					}
+				}
+				units.add(((ICompilationUnit) element).getPrimary());
+				return true;
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~IJavaElementDelta.F_CHILDREN) != 0) {
+					return false;
+				}
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					if (!collectChangedUnits(child, units)) {
+						return false;
+					}
+				}
+				return true;
+			default:
+				return false;
+			}
+		}
+	}
+}
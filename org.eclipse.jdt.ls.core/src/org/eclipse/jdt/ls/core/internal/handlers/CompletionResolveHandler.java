@@ -16,7 +16,6 @@ import static org.eclipse.jdt.internal.corext.template.java.SignatureUtil.fix836
 import static org.eclipse.jdt.internal.corext.template.java.SignatureUtil.getLowerBound;
 import static org.eclipse.jdt.internal.corext.template.java.SignatureUtil.stripSignatureToFQN;
 
-import java.io.Reader;
 import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -41,15 +40,13 @@ import org.eclipse.jdt.ls.core.internal.JSONUtility;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.contentassist.CompletionProposalReplacementProvider;
 import org.eclipse.jdt.ls.core.internal.contentassist.CompletionProposalRequestor;
-import org.eclipse.jdt.ls.core.internal.javadoc.JavadocContentAccess;
-import org.eclipse.jdt.ls.core.internal.javadoc.JavadocContentAccess2;
+import org.eclipse.jdt.ls.core.internal.javadoc.JavadocCache;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.MarkupContent;
 import org.eclipse.lsp4j.MarkupKind;
 import org.eclipse.osgi.util.NLS;
 
-import com.google.common.io.CharStreams;
 import com.google.common.util.concurrent.SimpleTimeLimiter;
 import com.google.common.util.concurrent.UncheckedTimeoutException;
 /**
@@ -161,17 +158,13 @@ public class CompletionResolveHandler {
 					try {
 						final IMember curMember = member;
 						javadoc = SimpleTimeLimiter.create(Executors.newCachedThreadPool()).callWithTimeout(() -> {
-							Reader reader;
 							if (manager.getClientPreferences().isSupportsCompletionDocumentationMarkdown()) {
-								reader = JavadocContentAccess2.getMarkdownContentReader(curMember);
-							} else {
-								reader = JavadocContentAccess.getPlainTextContentReader(curMember);
+								return JavadocCache.getMarkdownContent(curMember);
 							}
-							return reader == null? null:CharStreams.toString(reader);
+							return JavadocCache.getPlainTextContent(curMember);
 						}, 500, TimeUnit.MILLISECONDS);
 					} catch (UncheckedTimeoutException | TimeoutException tooSlow) {
 						//Ignore error for now as it's spamming clients on content assist.
-						//TODO cache javadoc resolution results?
 						//JavaLanguageServerPlugin.logError("Unable to get documentation under 500ms");
 						monitor.setCanceled(true);
 					} catch (Exception e) {
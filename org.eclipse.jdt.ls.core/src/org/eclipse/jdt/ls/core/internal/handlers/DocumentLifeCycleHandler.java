@@ -29,6 +29,7 @@ import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.ResourceUtils;
 import org.eclipse.jdt.ls.core.internal.managers.InvisibleProjectImporter;
 import org.eclipse.jdt.ls.core.internal.managers.ProjectsManager;
+import org.eclipse.jdt.ls.core.internal.managers.SourcePrefetchJob;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
@@ -107,6 +108,7 @@ public class DocumentLifeCycleHandler extends BaseDocumentLifeCycleHandler {
 			return unit;
 		}
 
+		SourcePrefetchJob.getInstance().prefetch(unit);
 		return unit;
 	}
 
@@ -20,22 +20,27 @@ import static org.eclipse.jdt.core.IJavaElement.METHOD;
 import static org.eclipse.jdt.core.IJavaElement.PACKAGE_DECLARATION;
 import static org.eclipse.jdt.core.IJavaElement.TYPE;
 import static org.eclipse.jdt.ls.core.internal.JDTUtils.LocationType.FULL_RANGE;
+import static org.eclipse.jdt.ls.core.internal.JDTUtils.LocationType.NAME_RANGE;
 import static org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin.logInfo;
 import static org.eclipse.jdt.ls.core.internal.hover.JavaElementLabels.ALL_DEFAULT;
+import static org.eclipse.jdt.ls.core.internal.hover.JavaElementLabels.DECL_STRING;
 import static org.eclipse.jdt.ls.core.internal.hover.JavaElementLabels.M_APP_RETURNTYPE;
 import static org.eclipse.jdt.ls.core.internal.hover.JavaElementLabels.ROOT_VARIABLE;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.ElementChangedEvent;
 import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMember;
@@ -43,11 +48,14 @@ import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IParent;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
+import org.eclipse.jdt.ls.core.internal.JDTUtils.LocationType;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.ResourceUtils;
 import org.eclipse.jdt.ls.core.internal.hover.JavaElementLabels;
+import org.eclipse.jface.text.IDocument;
 import org.eclipse.lsp4j.DocumentSymbol;
 import org.eclipse.lsp4j.DocumentSymbolParams;
 import org.eclipse.lsp4j.Location;
@@ -58,9 +66,31 @@ import org.eclipse.lsp4j.SymbolKind;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.xtext.xbase.lib.Exceptions;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 public class DocumentSymbolHandler {
 	private static Range DEFAULT_RANGE = new Range(new Position(0, 0), new Position(0, 0));
 
+	private static final int MAX_CACHED_OUTLINES = 16;
+
+	/**
+	 * Outlines of the last requested files, reused while their source and the
+	 * Java model are unchanged. The outlines of the reconciled working copies are
+	 * computed ahead by {@link PrecomputedDocumentViews}.
+	 */
+	private static final Cache<String, Outline> outlines = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_OUTLINES).build();
+
+	/**
+	 * Incremented every time the outlines are discarded
+	 */
+	private static final AtomicLong generation = new AtomicLong();
+
+	static {
+		// the labels depend on other elements, like the binary types of a signature
+		JavaCore.addElementChangedListener(event -> clearOutlines(), ElementChangedEvent.POST_CHANGE);
+	}
+
 	private boolean hierarchicalDocumentSymbolSupported;
 
 	public DocumentSymbolHandler(boolean hierarchicalDocumentSymbolSupported) {
@@ -73,21 +103,85 @@ public class DocumentSymbolHandler {
 		if (unit == null || !unit.exists()) {
 			return Collections.emptyList();
 		}
+		return documentSymbol(unit, monitor);
+	}
 
+	List<Either<SymbolInformation, DocumentSymbol>> documentSymbol(ITypeRoot unit, IProgressMonitor monitor) {
+		long start = generation.get();
+		String source = getSource(unit);
+		List<Either<SymbolInformation, DocumentSymbol>> cached = getCachedOutline(unit, source);
+		if (cached != null) {
+			return cached;
+		}
+		List<Either<SymbolInformation, DocumentSymbol>> result;
 		if (hierarchicalDocumentSymbolSupported) {
 			List<DocumentSymbol> symbols = this.getHierarchicalOutline(unit, monitor);
-			return symbols.stream().map(Either::<SymbolInformation, DocumentSymbol>forRight).collect(toList());
+			result = symbols.stream().map(Either::<SymbolInformation, DocumentSymbol>forRight).collect(toList());
 		} else {
 			SymbolInformation[] elements = this.getOutline(unit, monitor);
-			return Arrays.asList(elements).stream().map(Either::<SymbolInformation, DocumentSymbol>forLeft).collect(toList());
+			result = Arrays.asList(elements).stream().map(Either::<SymbolInformation, DocumentSymbol>forLeft).collect(toList());
+		}
+		// an aborted computation returns an incomplete outline
+		if (source != null && !monitor.isCanceled() && generation.get() == start) {
+			outlines.put(getKey(unit), new Outline(source, start, copy(result)));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns a copy of the cached outline of the unit, or <code>null</code> if
+	 * the outline of the given source isn't cached.
+	 */
+	List<Either<SymbolInformation, DocumentSymbol>> getCachedOutline(ITypeRoot unit, String source) {
+		Outline outline = outlines.getIfPresent(getKey(unit));
+		if (outline == null || source == null || !source.equals(outline.source) || outline.generation != generation.get()) {
+			return null;
+		}
+		// the symbols are mutable, the cached ones are never handed out
+		return copy(outline.symbols);
+	}
+
+	private String getKey(ITypeRoot unit) {
+		return unit.getHandleIdentifier() + '#' + hierarchicalDocumentSymbolSupported;
+	}
+
+	/**
+	 * Discards the cached outlines.
+	 */
+	private static void clearOutlines() {
+		generation.incrementAndGet();
+		outlines.invalidateAll();
+	}
+
+	private String getSource(ITypeRoot unit) {
+		try {
+			return unit.getSource();
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the contents of the given unit, or <code>null</code> if the client
+	 * can't open the unit.
+	 */
+	private IDocument getDocument(ITypeRoot unit) throws JavaModelException {
+		if (unit instanceof IClassFile && JDTUtils.toUri((IClassFile) unit) == null) {
+			return null;
 		}
+		return JsonRpcHelpers.toDocument(unit.getBuffer());
 	}
 
 	private SymbolInformation[] getOutline(ITypeRoot unit, IProgressMonitor monitor) {
 		try {
+			String uri = ResourceUtils.toClientUri(JDTUtils.toUri(unit));
+			IDocument document = getDocument(unit);
+			if (uri == null || document == null) {
+				return new SymbolInformation[0];
+			}
 			IJavaElement[] elements = unit.getChildren();
-			ArrayList<SymbolInformation> symbols = new ArrayList<>(elements.length);
-			collectChildren(unit, elements, symbols, monitor);
+			LinkedHashSet<SymbolInformation> symbols = new LinkedHashSet<>(elements.length);
+			collectChildren(uri, document, elements, symbols, monitor);
 			return symbols.toArray(new SymbolInformation[symbols.size()]);
 		} catch (JavaModelException e) {
 			if (!unit.exists()) {
@@ -99,7 +193,7 @@ public class DocumentSymbolHandler {
 		return new SymbolInformation[0];
 	}
 
-	private void collectChildren(ITypeRoot unit, IJavaElement[] elements, ArrayList<SymbolInformation> symbols,
+	private void collectChildren(String uri, IDocument document, IJavaElement[] elements, LinkedHashSet<SymbolInformation> symbols,
 			IProgressMonitor monitor)
 			throws JavaModelException {
 		for (IJavaElement element : elements) {
@@ -107,15 +201,15 @@ public class DocumentSymbolHandler {
 				throw new OperationCanceledException();
 			}
 			if (element instanceof IParent) {
-				collectChildren(unit, filter(((IParent) element).getChildren()), symbols, monitor);
+				collectChildren(uri, document, filter(((IParent) element).getChildren()), symbols, monitor);
 			}
 			int type = element.getElementType();
 			if (type != IJavaElement.TYPE && type != IJavaElement.FIELD && type != IJavaElement.METHOD) {
 				continue;
 			}
 
-			Location location = JDTUtils.toLocation(element);
-			if (location != null) {
+			Range range = NAME_RANGE.toRange(element, document);
+			if (range != null) {
 				SymbolInformation si = new SymbolInformation();
 				String name = JavaElementLabels.getElementLabel(element, JavaElementLabels.ALL_DEFAULT);
 				si.setName(name == null ? element.getElementName() : name);
@@ -123,18 +217,16 @@ public class DocumentSymbolHandler {
 				if (element.getParent() != null) {
 					si.setContainerName(element.getParent().getElementName());
 				}
-				location.setUri(ResourceUtils.toClientUri(location.getUri()));
-				si.setLocation(location);
-				if (!symbols.contains(si)) {
-					symbols.add(si);
-				}
+				si.setLocation(new Location(uri, range));
+				symbols.add(si);
 			}
 		}
 	}
 
 	private List<DocumentSymbol> getHierarchicalOutline(ITypeRoot unit, IProgressMonitor monitor) {
 		try {
-			return Stream.of(filter(unit.getChildren())).map(child -> toDocumentSymbol(child, monitor)).filter(Objects::nonNull).collect(Collectors.toList());
+			IDocument document = getDocument(unit);
+			return Stream.of(filter(unit.getChildren())).map(child -> toDocumentSymbol(child, document, monitor)).filter(Objects::nonNull).collect(Collectors.toList());
 		} catch (OperationCanceledException e) {
 			logInfo("User abort while collecting the document symbols.");
 		} catch (JavaModelException e) {
@@ -147,7 +239,7 @@ public class DocumentSymbolHandler {
 		return emptyList();
 	}
 
-	private DocumentSymbol toDocumentSymbol(IJavaElement unit, IProgressMonitor monitor) {
+	private DocumentSymbol toDocumentSymbol(IJavaElement unit, IDocument document, IProgressMonitor monitor) {
 		int type = unit.getElementType();
 		if (type != TYPE && type != FIELD && type != METHOD && type != PACKAGE_DECLARATION && type != COMPILATION_UNIT) {
 			return null;
@@ -157,18 +249,16 @@ public class DocumentSymbolHandler {
 		}
 		DocumentSymbol symbol = new DocumentSymbol();
 		try {
-			String name = getName(unit);
-			symbol.setName(name);
-			symbol.setRange(getRange(unit));
-			symbol.setSelectionRange(getSelectionRange(unit));
+			setNameAndDetail(symbol, unit);
+			symbol.setRange(getRange(unit, FULL_RANGE, document));
+			symbol.setSelectionRange(getRange(unit, NAME_RANGE, document));
 			symbol.setKind(mapKind(unit));
 			symbol.setDeprecated(isDeprecated(unit));
-			symbol.setDetail(getDetail(unit, name));
 			if (unit instanceof IParent) {
 				//@formatter:off
 				IJavaElement[] children = filter(((IParent) unit).getChildren());
 				symbol.setChildren(Stream.of(children)
-						.map(child -> toDocumentSymbol(child, monitor))
+						.map(child -> toDocumentSymbol(child, document, monitor))
 						.filter(Objects::nonNull)
 						.collect(Collectors.toList()));
 				//@formatter:off
@@ -179,19 +269,30 @@ public class DocumentSymbolHandler {
 		return symbol;
 	}
 
-	private String getName(IJavaElement element) {
-		String name = JavaElementLabels.getElementLabel(element, ALL_DEFAULT);
-		return name == null ? element.getElementName() : name;
-	}
-
-	private Range getRange(IJavaElement element) throws JavaModelException {
-		Location location = JDTUtils.toLocation(element, FULL_RANGE);
-		return location == null ? DEFAULT_RANGE : location.getRange();
+	/**
+	 * Sets the name and the detail of the symbol from a single label, the detail
+	 * being the appended return type of methods.
+	 */
+	private void setNameAndDetail(DocumentSymbol symbol, IJavaElement element) {
+		String name;
+		String detail = "";
+		if (element.getElementType() == METHOD) {
+			name = JavaElementLabels.getElementLabel(element, ALL_DEFAULT | M_APP_RETURNTYPE | ROOT_VARIABLE);
+			int index = name == null ? -1 : name.lastIndexOf(DECL_STRING);
+			if (index > 0) {
+				detail = name.substring(index);
+				name = name.substring(0, index);
+			}
+		} else {
+			name = JavaElementLabels.getElementLabel(element, ALL_DEFAULT);
+		}
+		symbol.setName(name == null ? element.getElementName() : name);
+		symbol.setDetail(detail);
 	}
 
-	private Range getSelectionRange(IJavaElement element) throws JavaModelException {
-		Location location = JDTUtils.toLocation(element);
-		return location == null ? DEFAULT_RANGE : location.getRange();
+	private Range getRange(IJavaElement element, LocationType type, IDocument document) throws JavaModelException {
+		Range range = document == null ? null : type.toRange(element, document);
+		return range == null ? DEFAULT_RANGE : range;
 	}
 
 	private boolean isDeprecated(IJavaElement element) throws JavaModelException {
@@ -201,14 +302,6 @@ public class DocumentSymbolHandler {
 		return false;
 	}
 
-	private String getDetail(IJavaElement element, String name) {
-		String nameWithDetails = JavaElementLabels.getElementLabel(element, ALL_DEFAULT | M_APP_RETURNTYPE | ROOT_VARIABLE);
-		if (nameWithDetails != null && nameWithDetails.startsWith(name)) {
-			return nameWithDetails.substring(name.length());
-		}
-		return "";
-	}
-
 	private IJavaElement[] filter(IJavaElement[] elements) {
 		return Stream.of(elements)
 				.filter(e -> (!isInitializer(e) && !isSyntheticElement(e)))
@@ -301,4 +394,51 @@ public class DocumentSymbolHandler {
 		return SymbolKind.String;
 	}
 
+	private static List<Either<SymbolInformation, DocumentSymbol>> copy(List<Either<SymbolInformation, DocumentSymbol>> symbols) {
+		return symbols.stream().map(symbol -> symbol.isRight() ? Either.<SymbolInformation, DocumentSymbol>forRight(copy(symbol.getRight())) : Either.<SymbolInformation, DocumentSymbol>forLeft(copy(symbol.getLeft()))).collect(toList());
+	}
+
+	private static DocumentSymbol copy(DocumentSymbol symbol) {
+		DocumentSymbol copy = new DocumentSymbol();
+		copy.setName(symbol.getName());
+		copy.setDetail(symbol.getDetail());
+		copy.setKind(symbol.getKind());
+		copy.setDeprecated(symbol.getDeprecated());
+		copy.setRange(copy(symbol.getRange()));
+		copy.setSelectionRange(copy(symbol.getSelectionRange()));
+		if (symbol.getChildren() != null) {
+			copy.setChildren(symbol.getChildren().stream().map(child -> copy(child)).collect(toList()));
+		}
+		return copy;
+	}
+
+	private static SymbolInformation copy(SymbolInformation symbol) {
+		SymbolInformation copy = new SymbolInformation();
+		copy.setName(symbol.getName());
+		copy.setKind(symbol.getKind());
+		copy.setDeprecated(symbol.getDeprecated());
+		copy.setContainerName(symbol.getContainerName());
+		Location location = symbol.getLocation();
+		copy.setLocation(new Location(location.getUri(), copy(location.getRange())));
+		return copy;
+	}
+
+	private static Range copy(Range range) {
+		Position start = range.getStart();
+		Position end = range.getEnd();
+		return new Range(new Position(start.getLine(), start.getCharacter()), new Position(end.getLine(), end.getCharacter()));
+	}
+
+	private static final class Outline {
+		private final String source;
+		private final long generation;
+		private final List<Either<SymbolInformation, DocumentSymbol>> symbols;
+
+		private Outline(String source, long generation, List<Either<SymbolInformation, DocumentSymbol>> symbols) {
+			this.source = source;
+			this.generation = generation;
+			this.symbols = symbols;
+		}
+	}
+
 }
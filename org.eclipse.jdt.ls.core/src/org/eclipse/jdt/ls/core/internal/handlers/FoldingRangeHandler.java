@@ -13,7 +13,9 @@
 
 package org.eclipse.jdt.ls.core.internal.handlers;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,13 +25,9 @@ import java.util.regex.Pattern;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.jdt.core.IImportContainer;
-import org.eclipse.jdt.core.IJavaElement;
-import org.eclipse.jdt.core.IMethod;
-import org.eclipse.jdt.core.ISourceRange;
-import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ITypeRoot;
-import org.eclipse.jdt.core.SourceRange;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.ToolFactory;
 import org.eclipse.jdt.core.compiler.IScanner;
 import org.eclipse.jdt.core.compiler.ITerminalSymbols;
@@ -46,13 +44,12 @@ public class FoldingRangeHandler {
 	private static final Pattern REGION_START_PATTERN = Pattern.compile("^//\\s*#?region|^//\\s+<editor-fold.*>");
 	private static final Pattern REGION_END_PATTERN = Pattern.compile("^//\\s*#?endregion|^//\\s+</editor-fold>");
 
-	private static IScanner fScanner;
-
-	private static IScanner getScanner() {
-		if (fScanner == null) {
-			fScanner = ToolFactory.createScanner(true, false, false, true);
-		}
-		return fScanner;
+	private static IScanner getScanner(ITypeRoot unit) {
+		// the ranges may be computed concurrently by a request and in the background
+		IJavaProject javaProject = unit.getJavaProject();
+		String sourceLevel = javaProject == null ? JavaCore.getOption(JavaCore.COMPILER_SOURCE) : javaProject.getOption(JavaCore.COMPILER_SOURCE, true);
+		String complianceLevel = javaProject == null ? JavaCore.getOption(JavaCore.COMPILER_COMPLIANCE) : javaProject.getOption(JavaCore.COMPILER_COMPLIANCE, true);
+		return ToolFactory.createScanner(true, false, true, sourceLevel, complianceLevel);
 	}
 
 	public List<FoldingRange> foldingRange(FoldingRangeRequestParams params, IProgressMonitor monitor) {
@@ -65,6 +62,11 @@ public class FoldingRangeHandler {
 			if (unit == null || (monitor != null && monitor.isCanceled())) {
 				return $;
 			}
+			List<FoldingRange> precomputed = PrecomputedDocumentViews.getInstance().getFoldingRanges(unit);
+			if (precomputed != null) {
+				$.addAll(precomputed);
+				return $;
+			}
 			computeFoldingRanges($, unit, monitor);
 			return $;
 		} finally {
@@ -72,61 +74,33 @@ public class FoldingRangeHandler {
 		}
 	}
 
+	List<FoldingRange> foldingRange(ITypeRoot unit, IProgressMonitor monitor) {
+		List<FoldingRange> $ = new ArrayList<>();
+		computeFoldingRanges($, unit, monitor);
+		return $;
+	}
+
+	/**
+	 * Computes the folding ranges of the unit in a single scan of its source,
+	 * without building or walking the Java model: comments, regions, imports,
+	 * types, methods and the statements blocks of the method bodies.
+	 */
 	private void computeFoldingRanges(List<FoldingRange> foldingRanges, ITypeRoot unit, IProgressMonitor monitor) {
 		try {
-			ISourceRange range = unit.getSourceRange();
-			if (!SourceRange.isAvailable(range)) {
-				return;
-			}
-
 			String contents = unit.getSource();
 			if (StringUtils.isBlank(contents)) {
 				return;
 			}
-
-			final int shift = range.getOffset();
-			IScanner scanner = getScanner();
+			IScanner scanner = getScanner(unit);
 			scanner.setSource(contents.toCharArray());
-			scanner.resetTo(shift, shift + range.getLength());
-
-			int start = shift;
-			int token = 0;
-			Stack<Integer> regionStarts = new Stack<>();
-			while (token != ITerminalSymbols.TokenNameEOF) {
-				start = scanner.getCurrentTokenStartPosition();
-				switch (token) {
-					case ITerminalSymbols.TokenNameCOMMENT_JAVADOC:
-					case ITerminalSymbols.TokenNameCOMMENT_BLOCK:
-						int end = scanner.getCurrentTokenEndPosition();
-						FoldingRange commentFoldingRange = new FoldingRange(scanner.getLineNumber(start) - 1, scanner.getLineNumber(end) - 1);
-						commentFoldingRange.setKind(FoldingRangeKind.Comment);
-						foldingRanges.add(commentFoldingRange);
-						break;
-					case ITerminalSymbols.TokenNameCOMMENT_LINE:
-						String currentSource = String.valueOf(scanner.getCurrentTokenSource());
-						if (REGION_START_PATTERN.matcher(currentSource).lookingAt()) {
-							regionStarts.push(start);
-						} else if (REGION_END_PATTERN.matcher(currentSource).lookingAt()) {
-							if (regionStarts.size() > 0) {
-								FoldingRange regionFolding = new FoldingRange(scanner.getLineNumber(regionStarts.pop()) - 1, scanner.getLineNumber(start) - 1);
-								regionFolding.setKind(FoldingRangeKind.Region);
-								foldingRanges.add(regionFolding);
-							}
-						}
-						break;
-					default:
-						break;
-				}
-				token = getNextToken(scanner);
-			}
-			computeTypeRootRanges(foldingRanges, unit, scanner);
+			new RangeCollector(scanner, foldingRanges).collect(monitor);
 		} catch (CoreException e) {
 			JavaLanguageServerPlugin.logException("Problem with folding range for " + unit.getPath().toPortableString(), e);
 			monitor.setCanceled(true);
 		}
 	}
 
-	private int getNextToken(IScanner scanner) {
+	private static int getNextToken(IScanner scanner) {
 		int token = 0;
 		while (token == 0) {
 			try {
@@ -139,98 +113,351 @@ public class FoldingRangeHandler {
 		return token;
 	}
 
-	private void computeTypeRootRanges(List<FoldingRange> foldingRanges, ITypeRoot unit, IScanner scanner) throws CoreException {
-		if (unit.hasChildren()) {
-			for (IJavaElement child : unit.getChildren()) {
-				if (child instanceof IImportContainer) {
-					ISourceRange importRange = ((IImportContainer) child).getSourceRange();
-					FoldingRange importFoldingRange = new FoldingRange(scanner.getLineNumber(importRange.getOffset()) - 1, scanner.getLineNumber(importRange.getOffset() + importRange.getLength()) - 1);
-					importFoldingRange.setKind(FoldingRangeKind.Imports);
-					foldingRanges.add(importFoldingRange);
-				} else if (child instanceof IType) {
-					computeTypeRanges(foldingRanges, (IType) child, scanner);
-				}
-			}
+	/**
+	 * A block opened by a left brace.
+	 */
+	private static class Block {
+		/**
+		 * The line of the name of the type or method, or -1 for the other blocks
+		 */
+		private final int nameLine;
+
+		private Block(int nameLine) {
+			this.nameLine = nameLine;
 		}
 	}
 
-	private void computeTypeRanges(List<FoldingRange> foldingRanges, IType unit, IScanner scanner) throws CoreException {
-		ISourceRange typeRange = unit.getSourceRange();
-		foldingRanges.add(new FoldingRange(scanner.getLineNumber(unit.getNameRange().getOffset()) - 1, scanner.getLineNumber(typeRange.getOffset() + typeRange.getLength()) - 1));
-		IJavaElement[] children = unit.getChildren();
-		for (IJavaElement c : children) {
-			if (c instanceof IMethod) {
-				computeMethodRanges(foldingRanges, (IMethod) c, scanner);
-			} else if (c instanceof IType) {
-				computeTypeRanges(foldingRanges, (IType) c, scanner);
-			}
+	private static class TypeBlock extends Block {
+		private final boolean isEnum;
+		private boolean inEnumConstants;
+
+		private TypeBlock(int nameLine, boolean isEnum) {
+			super(nameLine);
+			this.isEnum = isEnum;
+			this.inEnumConstants = isEnum;
 		}
 	}
 
-	private void computeMethodRanges(List<FoldingRange> foldingRanges, IMethod method, IScanner scanner) throws CoreException {
-		ISourceRange sourceRange = method.getSourceRange();
-		final int shift = sourceRange.getOffset();
-		scanner.resetTo(shift, shift + sourceRange.getLength());
+	private static class MethodBlock extends Block {
+		private final Stack<Integer> leftParens = new Stack<>();
+		private final Map<Integer, Integer> candidates = new HashMap<>();
+		private int prevCaseLine = -1;
 
-		foldingRanges.add(new FoldingRange(scanner.getLineNumber(method.getNameRange().getOffset()) - 1, scanner.getLineNumber(shift + sourceRange.getLength()) - 1));
+		private MethodBlock(int nameLine) {
+			super(nameLine);
+		}
+	}
 
-		int start = shift;
-		int token = 0;
-		Stack<Integer> leftParens = null;
-		int prevCaseLine = -1;
-		Map<Integer, Integer> candidates = new HashMap<>();
-		while (token != ITerminalSymbols.TokenNameEOF) {
-			start = scanner.getCurrentTokenStartPosition();
+	/**
+	 * A block whose content isn't folded: initializers, enum constants bodies,
+	 * field initializers, ...
+	 */
+	private static class OpaqueBlock extends Block {
+		private int depth = 1;
+
+		private OpaqueBlock() {
+			super(-1);
+		}
+	}
+
+	/**
+	 * The member (or top level type) declaration being scanned.
+	 */
+	private static class Declaration {
+		private boolean isImport;
+		private boolean isType;
+		private boolean isEnum;
+		private boolean maybeRecord;
+		private int nameLine = -1;
+		private int methodNameLine = -1;
+		private int lastIdentifierLine = -1;
+		private boolean hasInitializer;
+		private boolean hasDefaultValue;
+		private int parenDepth;
+		/**
+		 * Whether the name of an annotation is being scanned, and whether its
+		 * last token is an identifier
+		 */
+		private boolean inAnnotationName;
+		private boolean afterAnnotationIdentifier;
+		private int annotationParenDepth;
+	}
+
+	private static class RangeCollector {
+		private final IScanner scanner;
+		private final List<FoldingRange> foldingRanges;
+		private final Deque<Block> blocks = new ArrayDeque<>();
+		private final Stack<Integer> regionStarts = new Stack<>();
+		private Declaration declaration = new Declaration();
+		private int previousToken;
+		private int importStartLine = -1;
+		private int importEndLine = -1;
+
+		private RangeCollector(IScanner scanner, List<FoldingRange> foldingRanges) {
+			this.scanner = scanner;
+			this.foldingRanges = foldingRanges;
+		}
+
+		private void collect(IProgressMonitor monitor) {
+			int token = getNextToken(scanner);
+			for (int count = 1; token != ITerminalSymbols.TokenNameEOF; count++) {
+				if ((count & 0xFFF) == 0 && monitor != null && monitor.isCanceled()) {
+					return;
+				}
+				switch (token) {
+					case ITerminalSymbols.TokenNameCOMMENT_JAVADOC:
+					case ITerminalSymbols.TokenNameCOMMENT_BLOCK:
+						FoldingRange commentFoldingRange = new FoldingRange(getStartLine(), getEndLine());
+						commentFoldingRange.setKind(FoldingRangeKind.Comment);
+						foldingRanges.add(commentFoldingRange);
+						break;
+					case ITerminalSymbols.TokenNameCOMMENT_LINE:
+						acceptLineComment();
+						break;
+					default:
+						Block block = blocks.peek();
+						if (block instanceof MethodBlock) {
+							acceptMethodToken((MethodBlock) block, token);
+						} else if (block instanceof OpaqueBlock) {
+							acceptOpaqueToken((OpaqueBlock) block, token);
+						} else {
+							acceptMemberToken((TypeBlock) block, token);
+						}
+						previousToken = token;
+						break;
+				}
+				token = getNextToken(scanner);
+			}
+			if (importStartLine >= 0) {
+				FoldingRange importFoldingRange = new FoldingRange(importStartLine, importEndLine);
+				importFoldingRange.setKind(FoldingRangeKind.Imports);
+				foldingRanges.add(importFoldingRange);
+			}
+		}
+
+		private int getStartLine() {
+			return scanner.getLineNumber(scanner.getCurrentTokenStartPosition()) - 1;
+		}
+
+		private int getEndLine() {
+			return scanner.getLineNumber(scanner.getCurrentTokenEndPosition()) - 1;
+		}
+
+		private void acceptLineComment() {
+			String currentSource = String.valueOf(scanner.getCurrentTokenSource());
+			if (REGION_START_PATTERN.matcher(currentSource).lookingAt()) {
+				regionStarts.push(getStartLine());
+			} else if (REGION_END_PATTERN.matcher(currentSource).lookingAt()) {
+				if (regionStarts.size() > 0) {
+					FoldingRange regionFolding = new FoldingRange(regionStarts.pop(), getStartLine());
+					regionFolding.setKind(FoldingRangeKind.Region);
+					foldingRanges.add(regionFolding);
+				}
+			}
+		}
+
+		/**
+		 * Tokens of a type body, or of the unit outside of any type.
+		 */
+		private void acceptMemberToken(TypeBlock type, int token) {
+			Declaration decl = declaration;
+			if (decl.annotationParenDepth > 0) {
+				// skip the annotation arguments
+				if (token == ITerminalSymbols.TokenNameLPAREN) {
+					decl.annotationParenDepth++;
+				} else if (token == ITerminalSymbols.TokenNameRPAREN) {
+					decl.annotationParenDepth--;
+				}
+				return;
+			}
+			if (decl.inAnnotationName) {
+				boolean identifier = token == ITerminalSymbols.TokenNameIdentifier;
+				if (identifier != decl.afterAnnotationIdentifier && (identifier || token == ITerminalSymbols.TokenNameDOT)) {
+					decl.afterAnnotationIdentifier = identifier;
+					return;
+				}
+				decl.inAnnotationName = false;
+				decl.afterAnnotationIdentifier = false;
+				if (token == ITerminalSymbols.TokenNameLPAREN) {
+					decl.annotationParenDepth = 1;
+					return;
+				}
+			}
+			if (decl.maybeRecord) {
+				decl.maybeRecord = false;
+				if (token == ITerminalSymbols.TokenNameIdentifier) {
+					decl.isType = true;
+				}
+			}
 			switch (token) {
+				case ITerminalSymbols.TokenNameimport:
+					if (type == null) {
+						decl.isImport = true;
+						if (importStartLine < 0) {
+							importStartLine = getStartLine();
+						}
+					}
+					break;
+				case ITerminalSymbols.TokenNameAT:
+					decl.inAnnotationName = true;
+					break;
+				case ITerminalSymbols.TokenNameinterface:
+				case ITerminalSymbols.TokenNameclass:
+				case ITerminalSymbols.TokenNameenum:
+					// not a class literal
+					if (previousToken != ITerminalSymbols.TokenNameDOT && !decl.hasInitializer) {
+						decl.isType = true;
+						decl.isEnum = token == ITerminalSymbols.TokenNameenum;
+					}
+					break;
+				case ITerminalSymbols.TokenNameIdentifier:
+					int line = getStartLine();
+					if (decl.isType && decl.nameLine < 0) {
+						decl.nameLine = line;
+					} else if (!decl.isType && !decl.hasInitializer && decl.parenDepth == 0 && "record".equals(String.valueOf(scanner.getCurrentTokenSource()))) {
+						decl.maybeRecord = true;
+					}
+					decl.lastIdentifierLine = line;
+					break;
+				case ITerminalSymbols.TokenNameEQUAL:
+					if (decl.parenDepth == 0) {
+						decl.hasInitializer = true;
+					}
+					break;
+				case ITerminalSymbols.TokenNamedefault:
+					// the default value of an annotation type element
+					if (decl.methodNameLine >= 0 && decl.parenDepth == 0) {
+						decl.hasDefaultValue = true;
+					}
+					break;
+				case ITerminalSymbols.TokenNameLPAREN:
+					if (decl.parenDepth == 0 && decl.methodNameLine < 0 && !decl.isType && !decl.hasInitializer && previousToken == ITerminalSymbols.TokenNameIdentifier) {
+						decl.methodNameLine = decl.lastIdentifierLine;
+					}
+					decl.parenDepth++;
+					break;
+				case ITerminalSymbols.TokenNameRPAREN:
+					if (decl.parenDepth > 0) {
+						decl.parenDepth--;
+					}
+					break;
+				case ITerminalSymbols.TokenNameSEMICOLON:
+					if (decl.parenDepth > 0) {
+						break;
+					}
+					if (decl.isImport) {
+						importEndLine = getStartLine();
+					}
+					if (type != null && type.inEnumConstants) {
+						type.inEnumConstants = false;
+					} else if (decl.methodNameLine >= 0 && !decl.hasInitializer) {
+						// method without body
+						foldingRanges.add(new FoldingRange(decl.methodNameLine, getStartLine()));
+					}
+					declaration = new Declaration();
+					break;
 				case ITerminalSymbols.TokenNameLBRACE:
-					if (leftParens == null) {
-						// Start of method body
-						leftParens = new Stack<>();
+					if (decl.parenDepth > 0) {
+						break;
+					}
+					if (decl.isType) {
+						blocks.push(new TypeBlock(decl.nameLine, decl.isEnum));
+					} else if ((type != null && type.inEnumConstants) || decl.hasInitializer || decl.hasDefaultValue) {
+						blocks.push(new OpaqueBlock());
+					} else if (decl.methodNameLine >= 0) {
+						blocks.push(new MethodBlock(decl.methodNameLine));
+					} else if (type != null && decl.lastIdentifierLine >= 0) {
+						// compact constructor of a record
+						blocks.push(new MethodBlock(decl.lastIdentifierLine));
 					} else {
-						int startLine = scanner.getLineNumber(start) - 1;
-						// Start & end overlap, adjust the previous one for visibility:
-						if (candidates.containsKey(startLine)) {
-							int originalStartLine = candidates.remove(startLine);
-							if (originalStartLine < startLine - 1) {
-								candidates.put(startLine - 1, originalStartLine);
-							}
+						blocks.push(new OpaqueBlock());
+					}
+					declaration = new Declaration();
+					break;
+				case ITerminalSymbols.TokenNameRBRACE:
+					if (decl.parenDepth > 0) {
+						break;
+					}
+					if (type != null) {
+						blocks.pop();
+						if (type.nameLine >= 0) {
+							foldingRanges.add(new FoldingRange(type.nameLine, getEndLine()));
 						}
-						leftParens.push(startLine);
 					}
+					declaration = new Declaration();
+					break;
+				case ITerminalSymbols.TokenNameCOMMA:
+					// next enum constant
+					if (type != null && type.inEnumConstants && decl.parenDepth == 0) {
+						declaration = new Declaration();
+					}
+					break;
+				default:
+					break;
+			}
+		}
+
+		/**
+		 * Tokens of a block whose content isn't folded.
+		 */
+		private void acceptOpaqueToken(OpaqueBlock block, int token) {
+			if (token == ITerminalSymbols.TokenNameLBRACE) {
+				block.depth++;
+			} else if (token == ITerminalSymbols.TokenNameRBRACE && --block.depth == 0) {
+				blocks.pop();
+			}
+		}
+
+		/**
+		 * Tokens of a method body, folding its statements blocks and switch cases.
+		 */
+		private void acceptMethodToken(MethodBlock method, int token) {
+			switch (token) {
+				case ITerminalSymbols.TokenNameLBRACE:
+					int startLine = getStartLine();
+					// Start & end overlap, adjust the previous one for visibility:
+					if (method.candidates.containsKey(startLine)) {
+						int originalStartLine = method.candidates.remove(startLine);
+						if (originalStartLine < startLine - 1) {
+							method.candidates.put(startLine - 1, originalStartLine);
+						}
+					}
+					method.leftParens.push(startLine);
 					break;
 				case ITerminalSymbols.TokenNameRBRACE:
-					int endPos = scanner.getCurrentTokenEndPosition();
-					if (leftParens != null && leftParens.size() > 0) {
-						int endLine = scanner.getLineNumber(endPos) - 1;
-						int startLine = leftParens.pop();
-						if (startLine < endLine) {
-							candidates.put(endLine, startLine);
+					int endLine = getEndLine();
+					if (method.leftParens.isEmpty()) {
+						// end of the method body
+						blocks.pop();
+						foldingRanges.add(new FoldingRange(method.nameLine, endLine));
+						for (Map.Entry<Integer, Integer> entry : method.candidates.entrySet()) {
+							foldingRanges.add(new FoldingRange(entry.getValue(), entry.getKey()));
 						}
-						// Assume the last switch case:
-						if (startLine < prevCaseLine) {
-							if (endLine - 1 > prevCaseLine) {
-								candidates.put(endLine - 1, prevCaseLine);
-							}
-							prevCaseLine = -1;
+						break;
+					}
+					startLine = method.leftParens.pop();
+					if (startLine < endLine) {
+						method.candidates.put(endLine, startLine);
+					}
+					// Assume the last switch case:
+					if (startLine < method.prevCaseLine) {
+						if (endLine - 1 > method.prevCaseLine) {
+							method.candidates.put(endLine - 1, method.prevCaseLine);
 						}
+						method.prevCaseLine = -1;
 					}
 					break;
 				case ITerminalSymbols.TokenNamecase:
 				case ITerminalSymbols.TokenNamedefault:
-					int currentLine = scanner.getLineNumber(start) - 1;
-					if (prevCaseLine != -1 && currentLine - 1 >= prevCaseLine) {
-						candidates.put(scanner.getLineNumber(start) - 2, prevCaseLine);
+					int currentLine = getStartLine();
+					if (method.prevCaseLine != -1 && currentLine - 1 >= method.prevCaseLine) {
+						method.candidates.put(currentLine - 1, method.prevCaseLine);
 					}
-					prevCaseLine = currentLine;
+					method.prevCaseLine = currentLine;
 					break;
 				default:
 					break;
 			}
-			token = getNextToken(scanner);
-		}
-
-		for (Map.Entry<Integer, Integer> entry : candidates.entrySet()) {
-			foldingRanges.add(new FoldingRange(entry.getValue(), entry.getKey()));
 		}
 	}
 }
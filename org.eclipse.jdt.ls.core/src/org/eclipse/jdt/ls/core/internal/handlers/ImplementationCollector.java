@@ -77,6 +77,16 @@ public class ImplementationCollector<T> {
 	public static interface ResultMapper<T> {
 
 		T convert(IJavaElement element, int offset, int position);
+
+		/**
+		 * Completes the results converted so far, once all the implementations
+		 * are found.
+		 *
+		 * @throws OperationCanceledException
+		 *             if cancelled before the results are complete
+		 */
+		default void complete(IProgressMonitor monitor) {
+		}
 	}
 
 	private static final String JavaElementImplementationHyperlink_search_implementors = "Searching for implementors...";
@@ -122,6 +132,9 @@ public class ImplementationCollector<T> {
 		} else if (javaElement instanceof IType) {
 			implementations = findTypeImplementations(monitor);
 		}
+		if (implementations != null) {
+			mapper.complete(monitor);
+		}
 		return implementations == null ? Collections.emptyList() : Collections.unmodifiableList(implementations);
 	}
 
@@ -14,6 +14,7 @@ package org.eclipse.jdt.ls.core.internal.handlers;
 
 import static org.eclipse.jdt.ls.core.internal.JDTUtils.toLocation;
 
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
@@ -25,12 +26,15 @@ import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 
 /**
- * Maps {@link IJavaElement} and a position to a {@link Location} object.
+ * Maps {@link IJavaElement} and a position to a {@link Location} object. The
+ * ranges of the locations are computed per file once all the implementations
+ * are found.
  */
 public class ImplementationToLocationMapper implements ResultMapper<Location> {
 
 	private boolean includeClassFiles;
 	private boolean useDefaultPosition;
+	private final LocationConverter converter = new LocationConverter();
 
 	/**
 	 * Creates a ImplementationToLocationMapper instance. If
@@ -58,10 +62,10 @@ public class ImplementationToLocationMapper implements ResultMapper<Location> {
 			if (compilationUnit != null) {
 				if (useDefaultPosition || offset > 0 && position > 0) {
 					//builds location from offset and position directly
-					location = toLocation(compilationUnit, offset, position);
+					location = converter.add(compilationUnit, offset, position);
 				} else {
 					// opens file to determine location
-					location = toLocation(element);
+					location = converter.add(element);
 				}
 
 			} else if (includeClassFiles) {
@@ -69,10 +73,10 @@ public class ImplementationToLocationMapper implements ResultMapper<Location> {
 				if (cf != null) {
 					if (useDefaultPosition || offset > 0 && position > 0) {
 						//builds location from offset and position directly
-						location = toLocation(cf, offset, position);
+						location = converter.add(cf, offset, position);
 					} else {
 						//opens source to determine location
-						location = toLocation(element);
+						location = converter.add(element);
 						if (location == null) {//If no source was attached, return default location
 							location = toLocation(cf, 0, 0);
 						}
@@ -85,4 +89,9 @@ public class ImplementationToLocationMapper implements ResultMapper<Location> {
 		return location;
 	}
 
+	@Override
+	public void complete(IProgressMonitor monitor) {
+		converter.resolve(monitor);
+	}
+
 }
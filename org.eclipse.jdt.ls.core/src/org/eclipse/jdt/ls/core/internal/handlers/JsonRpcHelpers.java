@@ -122,6 +122,31 @@ final public class JsonRpcHelpers {
 		return null;
 	}
 
+	/**
+	 * Converts offsets to line numbers and columns in an openable, opening it
+	 * and computing its lines once. See {@link #toLine(IOpenable, int)}.
+	 *
+	 * @param openable
+	 * @param offsets
+	 * @return the line number and column of each offset, or <code>null</code>
+	 *         for the offsets that can't be converted
+	 */
+	public static int[][] toLines(IOpenable openable, int[] offsets) {
+		try {
+			return convert(openable, (IDocument document) -> {
+				int[][] lines = new int[offsets.length][];
+				for (int i = 0; i < offsets.length; i++) {
+					lines[i] = toLine(document, offsets[i]);
+				}
+				return lines;
+			});
+		} catch (JavaModelException e) {
+			JavaLanguageServerPlugin.log(e);
+		}
+
+		return new int[offsets.length][];
+	}
+
 	private static <T> T convert(IOpenable openable, Function<IDocument, T> consumer) throws JavaModelException {
 		Assert.isNotNull(openable, "openable");
 		boolean mustClose = false;
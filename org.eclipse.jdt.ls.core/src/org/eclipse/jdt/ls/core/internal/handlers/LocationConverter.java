@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.ISourceRange;
+import org.eclipse.jdt.core.ISourceReference;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.SourceRange;
+import org.eclipse.jdt.ls.core.internal.JDTUtils;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.jdt.ls.core.internal.ResourceUtils;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+
+/**
+ * Converts offsets in compilation units and class files, typically search
+ * matches, to locations.
+ *
+ * The offsets are grouped per file, so that the uri, the buffer and the line
+ * table of each file are computed once, instead of once per offset as with
+ * {@link JDTUtils#toLocation(ICompilationUnit, int, int)}. The locations are
+ * returned as they are added, and their ranges are computed by
+ * {@link #resolve(IProgressMonitor)}, one file after another so that each
+ * buffer is opened once.
+ *
+ * A converter is not thread safe.
+ */
+public final class LocationConverter {
+
+	private final Map<ITypeRoot, FileRanges> files = new LinkedHashMap<>();
+
+	/**
+	 * Adds the range of the given length at the given offset of the given
+	 * compilation unit or class file.
+	 *
+	 * @return the location of the range, whose range is only known once
+	 *         resolved, or <code>null</code> if the file has no uri
+	 */
+	public Location add(ITypeRoot typeRoot, int offset, int length) {
+		FileRanges file = files.computeIfAbsent(typeRoot, FileRanges::new);
+		if (file.uri == null) {
+			return null;
+		}
+		Location location = new Location(file.uri, JDTUtils.newRange());
+		if (offset > 0 || length > 0) {
+			file.ranges.add(new PendingRange(location.getRange(), offset, length));
+		}
+		return location;
+	}
+
+	/**
+	 * Adds the name range of the given element, like
+	 * {@link JDTUtils#toLocation(IJavaElement)}.
+	 *
+	 * @return the location of the name, whose range is only known once
+	 *         resolved, or <code>null</code> if the element has no name range
+	 */
+	public Location add(IJavaElement element) throws JavaModelException {
+		ITypeRoot typeRoot = (ITypeRoot) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		if (typeRoot == null) {
+			typeRoot = (ITypeRoot) element.getAncestor(IJavaElement.CLASS_FILE);
+		}
+		if (typeRoot == null || !(element instanceof ISourceReference)) {
+			return null;
+		}
+		ISourceRange nameRange = JDTUtils.getNameRange(element);
+		if (!SourceRange.isAvailable(nameRange)) {
+			return null;
+		}
+		return add(typeRoot, nameRange.getOffset(), nameRange.getLength());
+	}
+
+	/**
+	 * Computes the ranges of the locations added since the last resolution.
+	 *
+	 * @throws OperationCanceledException
+	 *             if cancelled, the locations added since the last resolution
+	 *             must then be discarded
+	 */
+	public void resolve(IProgressMonitor monitor) {
+		for (FileRanges file : files.values()) {
+			if (monitor == null || !monitor.isCanceled()) {
+				file.resolve();
+			}
+			file.ranges.clear();
+		}
+		if (monitor != null && monitor.isCanceled()) {
+			// some ranges may be left at the start of their files
+			throw new OperationCanceledException();
+		}
+	}
+
+	private static final class FileRanges {
+		private final ITypeRoot typeRoot;
+		private final String uri;
+		private final List<PendingRange> ranges = new ArrayList<>();
+
+		private FileRanges(ITypeRoot typeRoot) {
+			this.typeRoot = typeRoot;
+			if (typeRoot instanceof ICompilationUnit) {
+				this.uri = ResourceUtils.toClientUri(JDTUtils.toURI((ICompilationUnit) typeRoot));
+			} else if (typeRoot instanceof IClassFile) {
+				this.uri = JDTUtils.toUri((IClassFile) typeRoot);
+			} else {
+				this.uri = null;
+			}
+		}
+
+		private void resolve() {
+			if (ranges.isEmpty()) {
+				return;
+			}
+			IDocument document;
+			try {
+				document = JsonRpcHelpers.toDocument(typeRoot.getBuffer());
+			} catch (JavaModelException e) {
+				JavaLanguageServerPlugin.logException("Unable to read " + typeRoot.getElementName(), e);
+				return;
+			}
+			if (document == null) {
+				return;
+			}
+			for (PendingRange range : ranges) {
+				setPosition(range.range.getStart(), JsonRpcHelpers.toLine(document, range.offset));
+				setPosition(range.range.getEnd(), JsonRpcHelpers.toLine(document, range.offset + range.length));
+			}
+		}
+
+		private static void setPosition(Position position, int[] coords) {
+			if (coords != null) {
+				position.setLine(coords[0]);
+				position.setCharacter(coords[1]);
+			}
+		}
+	}
+
+	private static final class PendingRange {
+		private final Range range;
+		private final int offset;
+		private final int length;
+
+		private PendingRange(Range range, int offset, int length) {
+			this.range = range;
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+}
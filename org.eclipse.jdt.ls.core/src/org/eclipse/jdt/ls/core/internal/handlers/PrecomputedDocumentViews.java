@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.jdt.ls.core.internal.commands.SemanticTokensCommand;
+import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
+import org.eclipse.jdt.ls.core.internal.semantictokens.SemanticTokens;
+import org.eclipse.lsp4j.FoldingRange;
+
+/**
+ * Computes the semantic tokens, folding ranges and document symbols of the
+ * reconciled working copies in the background, so that the requests following
+ * an open or a change are served from memory.
+ *
+ * The views are stored with the source they were computed from, and are only
+ * returned while the source of the unit is unchanged. A new edit cancels the
+ * pending computation and discards all the views, since the semantic tokens of
+ * a unit depend on the other units. The views are discarded on every change of
+ * the Java model as well, like a build or a change of the classpath.
+ *
+ * The document symbols are computed into the outline cache of
+ * {@link DocumentSymbolHandler}, which serves them to the requests.
+ */
+public final class PrecomputedDocumentViews {
+
+	public static final String PRECOMPUTE_JOBS = "PrecomputeDocumentViewsJobs";
+
+	private static final PrecomputedDocumentViews instance = new PrecomputedDocumentViews();
+
+	private final Map<String, Views> views = new ConcurrentHashMap<>();
+	/**
+	 * Incremented every time the views are discarded, guarded by the views
+	 */
+	private long generation;
+	private final Set<ICompilationUnit> pending = new LinkedHashSet<>();
+	private final Job job;
+
+	private PrecomputedDocumentViews() {
+		job = new Job("Precompute document views") {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				return precompute(monitor);
+			}
+
+			@Override
+			public boolean belongsTo(Object family) {
+				return PRECOMPUTE_JOBS.equals(family);
+			}
+		};
+		job.setPriority(Job.DECORATE);
+		job.setSystem(true);
+		JavaCore.addElementChangedListener(event -> clear(), ElementChangedEvent.POST_CHANGE);
+	}
+
+	public static PrecomputedDocumentViews getInstance() {
+		return instance;
+	}
+
+	public static boolean isEnabled() {
+		PreferenceManager preferenceManager = JavaLanguageServerPlugin.getPreferencesManager();
+		return preferenceManager != null && preferenceManager.getPreferences().isPrecomputeDocumentViewsEnabled();
+	}
+
+	/**
+	 * Schedules the computation of the views of the given reconciled units, if
+	 * enabled.
+	 *
+	 * @param units
+	 *            the reconciled units
+	 */
+	public void schedule(Collection<ICompilationUnit> units) {
+		if (!isEnabled() || units.isEmpty()) {
+			return;
+		}
+		synchronized (pending) {
+			pending.addAll(units);
+		}
+		job.schedule();
+	}
+
+	/**
+	 * Cancels the computation of the views of the given unit, and discards the
+	 * computed views.
+	 *
+	 * @param unit
+	 *            a changed or closed unit
+	 */
+	public void cancel(ICompilationUnit unit) {
+		boolean wasPending;
+		synchronized (pending) {
+			wasPending = pending.remove(unit);
+		}
+		if (wasPending || job.getState() == Job.RUNNING) {
+			job.cancel();
+		}
+		clear();
+	}
+
+	private IStatus precompute(IProgressMonitor monitor) {
+		List<ICompilationUnit> units;
+		synchronized (pending) {
+			units = new ArrayList<>(pending);
+			pending.clear();
+		}
+		PreferenceManager preferenceManager = JavaLanguageServerPlugin.getPreferencesManager();
+		boolean hierarchicalSymbols = preferenceManager != null && preferenceManager.getClientPreferences() != null && preferenceManager.getClientPreferences().isHierarchicalDocumentSymbolSupported();
+		for (ICompilationUnit unit : units) {
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			try {
+				if (!unit.exists() || !unit.isWorkingCopy()) {
+					continue;
+				}
+				String source = unit.getSource();
+				if (source == null || getViews(unit, source) != null) {
+					continue;
+				}
+				long start;
+				synchronized (views) {
+					start = generation;
+				}
+				Views unitViews = new Views(source);
+				unitViews.semanticTokens = SemanticTokensCommand.provide(unit);
+				if (monitor.isCanceled()) {
+					return Status.CANCEL_STATUS;
+				}
+				unitViews.foldingRanges = Collections.unmodifiableList(new FoldingRangeHandler().foldingRange(unit, monitor));
+				if (monitor.isCanceled()) {
+					return Status.CANCEL_STATUS;
+				}
+				new DocumentSymbolHandler(hierarchicalSymbols).documentSymbol(unit, monitor);
+				// the unit may have been edited, or the views discarded meanwhile
+				String currentSource = unit.getSource();
+				synchronized (views) {
+					if (!monitor.isCanceled() && generation == start && source.equals(currentSource)) {
+						views.put(unit.getHandleIdentifier(), unitViews);
+					}
+				}
+			} catch (JavaModelException e) {
+				JavaLanguageServerPlugin.logException("Unable to precompute the views of " + unit.getElementName(), e);
+			}
+		}
+		return Status.OK_STATUS;
+	}
+
+	public SemanticTokens getSemanticTokens(ITypeRoot typeRoot) {
+		Views unitViews = getViews(typeRoot);
+		return unitViews == null ? null : unitViews.semanticTokens;
+	}
+
+	public List<FoldingRange> getFoldingRanges(ITypeRoot typeRoot) {
+		Views unitViews = getViews(typeRoot);
+		return unitViews == null ? null : unitViews.foldingRanges;
+	}
+
+	private Views getViews(ITypeRoot typeRoot) {
+		if (!(typeRoot instanceof ICompilationUnit) || views.isEmpty()) {
+			return null;
+		}
+		try {
+			return getViews(typeRoot, typeRoot.getSource());
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+
+	private Views getViews(ITypeRoot typeRoot, String source) {
+		Views unitViews = views.get(typeRoot.getHandleIdentifier());
+		return unitViews != null && unitViews.source.equals(source) ? unitViews : null;
+	}
+
+	/**
+	 * Discards all the computed views.
+	 */
+	public void clear() {
+		synchronized (views) {
+			generation++;
+			views.clear();
+		}
+	}
+
+	private static final class Views {
+		private final String source;
+		private SemanticTokens semanticTokens;
+		private List<FoldingRange> foldingRanges;
+
+		private Views(String source) {
+			this.source = source;
+		}
+	}
+}
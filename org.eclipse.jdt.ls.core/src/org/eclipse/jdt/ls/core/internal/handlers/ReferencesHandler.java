@@ -20,6 +20,7 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
@@ -31,8 +32,10 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.FieldReferenceMatch;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.MethodReferenceMatch;
 import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
@@ -79,43 +82,33 @@ public final class ReferencesHandler {
 			if (elementToSearch == null) {
 				return locations;
 			}
-			search(elementToSearch, locations, monitor);
-			if (monitor.isCanceled()) {
-				return Collections.emptyList();
-			}
+			List<IJavaElement> elementsToSearch = new ArrayList<>();
+			elementsToSearch.add(elementToSearch);
 			if (preferenceManager.getPreferences().isIncludeAccessors() && elementToSearch instanceof IField) { // IField
 				IField field = (IField) elementToSearch;
 				IMethod getter = GetterSetterUtil.getGetter(field);
 				if (getter != null) {
-					search(getter, locations, monitor);
-				}
-				if (monitor.isCanceled()) {
-					return Collections.emptyList();
+					elementsToSearch.add(getter);
 				}
 				IMethod setter = GetterSetterUtil.getSetter(field);
 				if (setter != null) {
-					search(setter, locations, monitor);
+					elementsToSearch.add(setter);
 				}
-				if (monitor.isCanceled()) {
-					return Collections.emptyList();
-				}
-				String builderName = getBuilderName(field);
-				IType builder = field.getJavaProject().findType(builderName);
-				if (monitor.isCanceled()) {
-					return Collections.emptyList();
-				}
-				if (builder != null) {
+				// the builder is a member type of the declaring type
+				IType builder = field.getDeclaringType().getType(getBuilderName(field));
+				if (builder.exists()) {
 					String fieldSignature = field.getTypeSignature();
 					for (IMethod method : builder.getMethods()) {
 						String[] parameters = method.getParameterTypes();
 						if (parameters.length == 1 && field.getElementName().equals(method.getElementName()) && fieldSignature.equals(parameters[0])) {
-							search(method, locations, monitor);
+							elementsToSearch.add(method);
 						}
 					}
 				}
-				if (monitor.isCanceled()) {
-					return Collections.emptyList();
-				}
+			}
+			search(elementsToSearch, locations, monitor);
+			if (monitor.isCanceled()) {
+				return Collections.emptyList();
 			}
 		} catch (CoreException e) {
 			JavaLanguageServerPlugin.logException("Find references failure ", e);
@@ -138,7 +131,7 @@ public final class ReferencesHandler {
 						String memberName = pair.getMemberName();
 						Object value = pair.getValue();
 						if ("builderClassName".equals(memberName) && value instanceof String && !((String) value).isEmpty()) {
-							return declaringType.getFullyQualifiedName() + "." + (String) value;
+							return (String) value;
 						}
 					}
 				}
@@ -146,39 +139,129 @@ public final class ReferencesHandler {
 				JavaLanguageServerPlugin.logException(e.getMessage(), e);
 			}
 		}
-		return declaringType.getFullyQualifiedName() + "." + declaringType.getElementName() + "Builder";
+		return declaringType.getElementName() + "Builder";
 	}
 
-	private void search(IJavaElement elementToSearch, final List<Location> locations, IProgressMonitor monitor) throws CoreException, JavaModelException {
+	/**
+	 * Searches the references of the given elements in a single pass, and adds
+	 * them to the given locations grouped by element, in the order of the
+	 * elements.
+	 */
+	private void search(List<IJavaElement> elementsToSearch, final List<Location> locations, IProgressMonitor monitor) throws CoreException, JavaModelException {
 		boolean includeClassFiles = preferenceManager.isClientSupportsClassFileContent();
 		boolean includeDecompiledSources = preferenceManager.getPreferences().isIncludeDecompiledSources();
-		SearchEngine engine = new SearchEngine();
-		SearchPattern pattern = SearchPattern.createPattern(elementToSearch, IJavaSearchConstants.REFERENCES);
-		engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, createSearchScope(), new SearchRequestor() {
+		List<List<Location>> elementLocations = new ArrayList<>(elementsToSearch.size());
+		List<IJavaElement> unknownElements = new ArrayList<>(elementsToSearch.size());
+		SearchPattern pattern = null;
+		for (IJavaElement elementToSearch : elementsToSearch) {
+			List<Location> knownReferences = null;
+			if (!includeClassFiles) {
+				// the references of code lens members may already be known
+				knownReferences = CodeLensReferences.getInstance().getKnownReferences(elementToSearch, monitor);
+			}
+			if (knownReferences != null) {
+				elementLocations.add(new ArrayList<>(knownReferences));
+				unknownElements.add(null);
+				continue;
+			}
+			elementLocations.add(new ArrayList<>());
+			SearchPattern elementPattern = SearchPattern.createPattern(elementToSearch, IJavaSearchConstants.REFERENCES);
+			unknownElements.add(elementPattern == null ? null : elementToSearch);
+			if (elementPattern != null) {
+				pattern = pattern == null ? elementPattern : SearchPattern.createOrPattern(pattern, elementPattern);
+			}
+		}
+		if (pattern != null) {
+			LocationConverter converter = new LocationConverter();
+			SearchEngine engine = new SearchEngine();
+			engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, createSearchScope(), new SearchRequestor() {
 
-			@Override
-			public void acceptSearchMatch(SearchMatch match) throws CoreException {
-				Object o = match.getElement();
-				if (o instanceof IJavaElement) {
-					IJavaElement element = (IJavaElement) o;
-					ICompilationUnit compilationUnit = (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
-					if (compilationUnit != null) {
-						Location location = JDTUtils.toLocation(compilationUnit, match.getOffset(), match.getLength());
-						locations.add(location);
-					} else if (includeClassFiles) {
-						IClassFile cf = (IClassFile) element.getAncestor(IJavaElement.CLASS_FILE);
-						if (cf != null && cf.getSourceRange() != null) {
-							Location location = JDTUtils.toLocation(cf, match.getOffset(), match.getLength());
-							locations.add(location);
-						} else if (includeDecompiledSources && cf != null) {
-							List<Location> result = JDTUtils.searchDecompiledSources(element, cf, false, false, monitor);
-							locations.addAll(result);
+				@Override
+				public void acceptSearchMatch(SearchMatch match) throws CoreException {
+					Object o = match.getElement();
+					if (o instanceof IJavaElement) {
+						IJavaElement element = (IJavaElement) o;
+						int origin = getOrigin(element, match, unknownElements);
+						ICompilationUnit compilationUnit = (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+						Location location = null;
+						if (compilationUnit != null) {
+							location = converter.add(compilationUnit, match.getOffset(), match.getLength());
+						} else if (includeClassFiles) {
+							IClassFile cf = (IClassFile) element.getAncestor(IJavaElement.CLASS_FILE);
+							if (cf != null && cf.getSourceRange() != null) {
+								location = converter.add(cf, match.getOffset(), match.getLength());
+							} else if (includeDecompiledSources && cf != null) {
+								List<Location> result = JDTUtils.searchDecompiledSources(element, cf, false, false, monitor);
+								elementLocations.get(origin).addAll(result);
+							}
+						}
+						if (location != null) {
+							elementLocations.get(origin).add(location);
 						}
 					}
+				}
+			}, monitor);
+			// the line table of each file is computed once
+			converter.resolve(monitor);
+		}
+		for (List<Location> references : elementLocations) {
+			locations.addAll(references);
+		}
+	}
 
+	/**
+	 * Returns the index of the searched element the given match refers to.
+	 * Field references refer to the field, and method references to the
+	 * accessor or builder method of the same name.
+	 */
+	private static int getOrigin(IJavaElement element, SearchMatch match, List<IJavaElement> searchedElements) {
+		int firstMethod = -1;
+		String selector = null;
+		for (int i = 0; i < searchedElements.size(); i++) {
+			IJavaElement searched = searchedElements.get(i);
+			if (searched == null) {
+				continue;
+			}
+			if (match instanceof FieldReferenceMatch) {
+				if (searched instanceof IField) {
+					return i;
 				}
+			} else if (match instanceof MethodReferenceMatch && searched instanceof IMethod) {
+				if (firstMethod < 0) {
+					firstMethod = i;
+					selector = getSelector(element, match);
+				}
+				if (searched.getElementName().equals(selector)) {
+					return i;
+				}
+			}
+		}
+		if (firstMethod >= 0) {
+			return firstMethod;
+		}
+		for (int i = 0; i < searchedElements.size(); i++) {
+			if (searchedElements.get(i) != null) {
+				return i;
+			}
+		}
+		return 0;
+	}
+
+	private static String getSelector(IJavaElement element, SearchMatch match) {
+		try {
+			IBuffer buffer = element.getOpenable() == null ? null : element.getOpenable().getBuffer();
+			if (buffer == null) {
+				return null;
 			}
-		}, monitor);
+			int end = match.getOffset();
+			int limit = Math.min(match.getOffset() + match.getLength(), buffer.getLength());
+			while (end < limit && Character.isJavaIdentifierPart(buffer.getChar(end))) {
+				end++;
+			}
+			return buffer.getText(match.getOffset(), end - match.getOffset());
+		} catch (JavaModelException e) {
+			return null;
+		}
 	}
 
 }
\ No newline at end of file
@@ -25,9 +25,9 @@ import org.eclipse.jdt.core.dom.Comment;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.Javadoc;
 import org.eclipse.jdt.core.dom.NodeFinder;
-import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.jdt.ls.core.internal.SharedASTCache;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.SelectionRange;
@@ -45,7 +45,11 @@ public class SelectionRangeHandler {
 			return Collections.emptyList();
 		}
 
-		CompilationUnit ast = CoreASTProvider.getInstance().getAST(root, CoreASTProvider.WAIT_YES, monitor);
+		// only the syntax is needed
+		CompilationUnit ast = SharedASTCache.getInstance().getAST(root, SharedASTCache.STATEMENTS_RECOVERY, monitor);
+		if (ast == null) {
+			return Collections.emptyList();
+		}
 
 		// extra logic to check within the line comments and block comments, which are not parts of the AST
 		@SuppressWarnings("unchecked")
@@ -54,6 +54,8 @@ public class WorkspaceSymbolHandler{
 			return symbols;
 		}
 
+		// the ranges are computed per file once the symbols are found
+		LocationConverter converter = new LocationConverter();
 		try {
 			monitor.beginTask("Searching the types...", 100);
 			IJavaSearchScope searchScope = createSearchScope(projectName, sourceOnly);
@@ -74,7 +76,7 @@ public class WorkspaceSymbolHandler{
 							if (!sourceOnly && match.getType().isBinary()) {
 								location = JDTUtils.toLocation(match.getType().getClassFile());
 							} else if (!match.getType().isBinary()) {
-								location = JDTUtils.toLocation(match.getType());
+								location = converter.add(match.getType());
 							}
 						} catch (Exception e) {
 							JavaLanguageServerPlugin.logException("Unable to determine location for " + match.getSimpleTypeName(), e);
@@ -128,7 +130,7 @@ public class WorkspaceSymbolHandler{
 
 							Location location = null;
 							try {
-								location = JDTUtils.toLocation(match.getMethod());
+								location = converter.add(match.getMethod());
 							} catch (Exception e) {
 								JavaLanguageServerPlugin.logException("Unable to determine location for " + match.getMethod().getElementName(), e);
 								return;
@@ -161,7 +163,8 @@ public class WorkspaceSymbolHandler{
 		} finally {
 			monitor.done();
 		}
-
+		// the search is cancelled once the maximum number of symbols is found
+		converter.resolve(null);
 		return symbols;
 	}
 
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.hover;
+
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Cache of the labels of the members of class files, keyed by element handle
+ * and rendering flags.
+ *
+ * The labels of binary members only change with the classpath, the library
+ * archives or their source attachments, which discard all the cached labels.
+ * The labels of source members depend on the other compilation units and are
+ * not cached.
+ */
+final class ElementLabelCache {
+
+	private static final int MAX_LABELS = 10000;
+
+	/**
+	 * Maximum number of cached simple type names
+	 */
+	private static final int MAX_TYPE_NAMES = 4096;
+
+	private static final ElementLabelCache instance = new ElementLabelCache();
+
+	private final Cache<String, String> labels = CacheBuilder.newBuilder().maximumSize(MAX_LABELS).build();
+	private final Cache<String, String> typeNames = CacheBuilder.newBuilder().maximumSize(MAX_TYPE_NAMES).build();
+
+	private ElementLabelCache() {
+		JavaCore.addElementChangedListener(new InvalidationListener(), ElementChangedEvent.POST_CHANGE);
+	}
+
+	static ElementLabelCache getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Returns the cached label of the given element, or composes and caches it.
+	 *
+	 * @param element
+	 *            the element to render
+	 * @param flags
+	 *            the rendering flags
+	 * @param composer
+	 *            composes the label
+	 * @return the label of the element
+	 */
+	String getLabel(IJavaElement element, long flags, Supplier<String> composer) {
+		if (!isCacheable(element)) {
+			return composer.get();
+		}
+		String key = element.getHandleIdentifier() + '#' + flags;
+		String label = labels.getIfPresent(key);
+		if (label == null) {
+			label = composer.get();
+			labels.put(key, label);
+		}
+		return label;
+	}
+
+	/**
+	 * Returns the interned simple name of the erasure of the given type
+	 * signature.
+	 *
+	 * @param typeSig
+	 *            a class or type variable signature
+	 * @param composer
+	 *            computes the simple name
+	 * @return the simple name
+	 */
+	String getSimpleTypeName(String typeSig, Supplier<String> composer) {
+		String name = typeNames.getIfPresent(typeSig);
+		if (name == null) {
+			name = composer.get();
+			typeNames.put(typeSig, name);
+		}
+		return name;
+	}
+
+	/**
+	 * Discards all the cached labels.
+	 */
+	void clear() {
+		labels.invalidateAll();
+	}
+
+	private static boolean isCacheable(IJavaElement element) {
+		if (!(element instanceof IMember) || !((IMember) element).isBinary()) {
+			return false;
+		}
+		// the handle of a resolved member doesn't include its binding key
+		if (element instanceof IType) {
+			return !((IType) element).isResolved();
+		} else if (element instanceof IMethod) {
+			return !((IMethod) element).isResolved();
+		} else if (element instanceof IField) {
+			return !((IField) element).isResolved();
+		}
+		return false;
+	}
+
+	private final class InvalidationListener implements IElementChangedListener {
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			if (affectsLibraries(event.getDelta())) {
+				clear();
+			}
+		}
+
+		private boolean affectsLibraries(IJavaElementDelta delta) {
+			switch (delta.getElement().getElementType()) {
+			case IJavaElement.COMPILATION_UNIT:
+				return false;
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~IJavaElementDelta.F_CHILDREN) != 0) {
+					// classpath, archive, source attachment, opening or closing changes
+					return true;
+				}
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					if (affectsLibraries(child)) {
+						return true;
+					}
+				}
+				return false;
+			default:
+				return true;
+			}
+		}
+	}
+}
@@ -721,7 +721,7 @@ public class JavaElementLabelComposer {
 	 * @return the simple name of the given type signature
 	 */
 	protected String getSimpleTypeName(IJavaElement enclosingElement, String typeSig) {
-		return Signature.getSimpleName(Signature.toString(Signature.getTypeErasure(typeSig)));
+		return ElementLabelCache.getInstance().getSimpleTypeName(typeSig, () -> Signature.getSimpleName(Signature.toString(Signature.getTypeErasure(typeSig))));
 	}
 
 	/**
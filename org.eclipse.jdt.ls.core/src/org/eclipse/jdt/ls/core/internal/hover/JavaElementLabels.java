@@ -360,9 +360,11 @@ public final class JavaElementLabels {
 	 * @return the label of the Java element
 	 */
 	public static String getElementLabel(IJavaElement element, long flags) {
-		StringBuilder result= new StringBuilder();
-		getElementLabel(element, flags, result);
-		return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		return ElementLabelCache.getInstance().getLabel(element, flags, () -> {
+			StringBuilder result= new StringBuilder();
+			getElementLabel(element, flags, result);
+			return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		});
 	}
 
 	/**
@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.javadoc;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaModelStatusConstants;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.io.CharStreams;
+
+/**
+ * Caches the rendered (markdown or plain text) Javadoc of Java elements, so
+ * that repeated hovers and completion resolves on the same element don't run
+ * the whole HTML generation and conversion pipeline again.
+ *
+ * Entries are keyed by the element handle identifier and stamped with the
+ * timestamp of the owning archive (and its source attachment) for binary
+ * elements. Elements coming from the workspace are stamped with the generation
+ * of their compilation unit, bumped by the deltas of the unit, so that editing
+ * a unit only invalidates its own entries. Their documentation may be
+ * inherited from other units, so they are also stamped with a generation
+ * bumped when sources are saved or the classpath changes.
+ */
+public final class JavadocCache {
+
+	/**
+	 * Upper bound of the retained characters (keys and rendered contents)
+	 */
+	private static final long MAX_RETAINED_CHARS = 4 * 1024 * 1024;
+
+	private static final String MARKDOWN = "#md"; //$NON-NLS-1$
+	private static final String PLAIN_TEXT = "#txt"; //$NON-NLS-1$
+
+	private static final Cache<String, Entry> cache = CacheBuilder.newBuilder().maximumWeight(MAX_RETAINED_CHARS).weigher((String key, Entry entry) -> entry.getWeight(key)).build();
+	private static final AtomicLong sourceGeneration = new AtomicLong();
+	private static final ConcurrentMap<String, Long> unitGenerations = new ConcurrentHashMap<>();
+	private static final AtomicLong hits = new AtomicLong();
+	private static final AtomicLong misses = new AtomicLong();
+
+	static {
+		JavaCore.addElementChangedListener(new InvalidationListener(), ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	private JavadocCache() {
+		// do not instantiate
+	}
+
+	/**
+	 * Returns the Javadoc of the element rendered as markdown, or
+	 * <code>null</code> if the element has no Javadoc.
+	 *
+	 * @param element
+	 *            the element to get the Javadoc of
+	 * @return the markdown content or <code>null</code>
+	 * @throws JavaModelException
+	 *             if the Javadoc can't be read
+	 */
+	public static String getMarkdownContent(IJavaElement element) throws JavaModelException {
+		return getContent(element, MARKDOWN, () -> JavadocContentAccess2.getMarkdownContentReader(element));
+	}
+
+	/**
+	 * Returns the Javadoc of the member rendered as plain text, or
+	 * <code>null</code> if the member has no Javadoc.
+	 *
+	 * @param member
+	 *            the member to get the Javadoc of
+	 * @return the plain text content or <code>null</code>
+	 * @throws JavaModelException
+	 *             if the Javadoc can't be read
+	 */
+	public static String getPlainTextContent(IMember member) throws JavaModelException {
+		return getContent(member, PLAIN_TEXT, () -> JavadocContentAccess.getPlainTextContentReader(member));
+	}
+
+	private static String getContent(IJavaElement element, String format, ReaderProvider provider) throws JavaModelException {
+		String key = element.getHandleIdentifier() + format;
+		// read the stamp before rendering, so that a change happening meanwhile invalidates the result
+		IPackageFragmentRoot root = JavaModelUtil.getPackageFragmentRoot(element);
+		boolean binary = root != null && root.getKind() == IPackageFragmentRoot.K_BINARY;
+		long stamp = binary ? getArchiveStamp(element, root) : sourceGeneration.get();
+		long unitStamp = binary ? 0 : unitGenerations.getOrDefault(getUnitHandle(element), 0L);
+		Entry entry = cache.getIfPresent(key);
+		if (entry != null && entry.stamp == stamp && entry.unitStamp == unitStamp) {
+			hits.incrementAndGet();
+			return entry.content;
+		}
+		misses.incrementAndGet();
+		String content = null;
+		Reader reader = provider.getReader();
+		if (reader != null) {
+			try {
+				content = CharStreams.toString(reader);
+			} catch (IOException e) {
+				throw new JavaModelException(e, IJavaModelStatusConstants.UNKNOWN_JAVADOC_FORMAT);
+			}
+		}
+		cache.put(key, new Entry(stamp, unitStamp, content, binary));
+		return content;
+	}
+
+	private static String getUnitHandle(IJavaElement element) {
+		IJavaElement unit = element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		return (unit == null ? element : unit).getHandleIdentifier();
+	}
+
+	private static long getArchiveStamp(IJavaElement element, IPackageFragmentRoot root) throws JavaModelException {
+		File archive;
+		IResource resource = root.getResource();
+		if (resource != null && resource.getLocation() != null) {
+			archive = resource.getLocation().toFile();
+		} else {
+			IPath path = root.getPath();
+			archive = path == null ? null : path.toFile();
+		}
+		long stamp = archive == null ? 0 : archive.lastModified();
+		File sources = SourceJarLocations.getSourceJarPath(element);
+		if (sources != null) {
+			stamp = 31 * stamp + sources.lastModified();
+		}
+		return stamp;
+	}
+
+	/**
+	 * Discards all the cached contents.
+	 */
+	public static void clear() {
+		cache.invalidateAll();
+	}
+
+	public static long getHitCount() {
+		return hits.get();
+	}
+
+	public static long getMissCount() {
+		return misses.get();
+	}
+
+	public static double getHitRate() {
+		long hitCount = hits.get();
+		long requestCount = hitCount + misses.get();
+		return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+	}
+
+	/**
+	 * @return the approximate number of bytes retained by the cached keys and
+	 *         contents
+	 */
+	public static long getRetainedSize() {
+		long chars = 0;
+		for (Map.Entry<String, Entry> e : cache.asMap().entrySet()) {
+			chars += e.getValue().getWeight(e.getKey());
+		}
+		return chars * Character.BYTES;
+	}
+
+	private static void invalidateBinaries() {
+		cache.asMap().values().removeIf(entry -> entry.binary);
+	}
+
+	/**
+	 * Invalidates the entries of all the source elements, the stale entries
+	 * are replaced when requested again or evicted.
+	 */
+	private static void invalidateSources() {
+		sourceGeneration.incrementAndGet();
+	}
+
+	/**
+	 * Invalidates the entries of the elements of the given unit only.
+	 */
+	private static void invalidateUnit(String unit) {
+		unitGenerations.merge(unit, 1L, Long::sum);
+	}
+
+	@FunctionalInterface
+	private interface ReaderProvider {
+		Reader getReader() throws JavaModelException;
+	}
+
+	private static final class Entry {
+		private final long stamp;
+		private final long unitStamp;
+		private final String content;
+		private final boolean binary;
+
+		private Entry(long stamp, long unitStamp, String content, boolean binary) {
+			this.stamp = stamp;
+			this.unitStamp = unitStamp;
+			this.content = content;
+			this.binary = binary;
+		}
+
+		private int getWeight(String key) {
+			return key.length() + (content == null ? 0 : content.length());
+		}
+	}
+
+	private static final class InvalidationListener implements IElementChangedListener {
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			processDelta(event.getDelta(), event.getType() == ElementChangedEvent.POST_RECONCILE);
+		}
+
+		private void processDelta(IJavaElementDelta delta, boolean reconcile) {
+			IJavaElement element = delta.getElement();
+			switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				processDeltaChildren(delta, reconcile);
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED)) != 0) {
+					invalidateBinaries();
+					invalidateSources();
+				} else {
+					processDeltaChildren(delta, reconcile);
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (((IPackageFragmentRoot) element).isArchive() || delta.getKind() != IJavaElementDelta.CHANGED) {
+					invalidateBinaries();
+					invalidateSources();
+				} else {
+					processDeltaChildren(delta, reconcile);
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				invalidateUnit(element.getHandleIdentifier());
+				if (!reconcile) {
+					// saved or changed on disk, other units may inherit its documentation
+					invalidateSources();
+				}
+				break;
+			default:
+				invalidateSources();
+				break;
+			}
+		}
+
+		private void processDeltaChildren(IJavaElementDelta delta, boolean reconcile) {
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				processDelta(child, reconcile);
+			}
+		}
+	}
+}
@@ -12,30 +12,26 @@
  *******************************************************************************/
 package org.eclipse.jdt.ls.core.internal.managers;
 
-import static java.nio.file.FileVisitResult.CONTINUE;
-import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
-import static java.nio.file.FileVisitResult.TERMINATE;
-
 import java.io.IOException;
-import java.nio.file.FileSystemLoopException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystems;
-import java.nio.file.FileVisitOption;
-import java.nio.file.FileVisitResult;
-import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
-import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -52,13 +48,28 @@ import org.eclipse.jdt.ls.core.internal.StatusFactory;
 public class BasicFileDetector {
 
 	private static final String METADATA_FOLDER = "**/.metadata";
-	private static final Set<FileVisitOption> FOLLOW_LINKS_OPTION = EnumSet.of(FileVisitOption.FOLLOW_LINKS);
+
+	/**
+	 * Directories modified less than this many milliseconds before being read
+	 * are not cached, since further changes could go unnoticed with a coarse
+	 * file system timestamp resolution.
+	 */
+	private static final long RACY_INTERVAL = 2000L;
+	private static final int MAX_CACHED_DIRECTORIES = 100_000;
+	private static final int SCAN_PARALLELISM = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+	/**
+	 * Content of the directories walked by previous scans, reused as long as
+	 * their modification stamp doesn't change.
+	 */
+	private static final Map<Path, DirectoryInfo> directoryCache = new ConcurrentHashMap<>();
+
 	private List<Path> directories;
 	private Path rootDir;
 	private List<String> fileNames;
 	private int maxDepth = 5;
 	private boolean includeNested = true;
 	private Set<String> exclusions = new LinkedHashSet<>(1);
+	private List<ExclusionMatcher> exclusionMatchers = new ArrayList<>(1);
 
 	/**
 	 * Constructs a new BasicFileDetector for the given root directory, searching
@@ -92,7 +103,11 @@ public class BasicFileDetector {
 	 */
 	public BasicFileDetector addExclusions(String...excludes) {
 		if (excludes != null) {
-			exclusions.addAll(Arrays.asList(excludes));
+			for (String exclude : excludes) {
+				if (exclusions.add(exclude)) {
+					exclusionMatchers.add(new ExclusionMatcher(exclude));
+				}
+			}
 		}
 		return this;
 	}
@@ -134,44 +149,28 @@ public class BasicFileDetector {
 	 * @throws CoreException if an error is encountered during the scan
 	 */
 	public Collection<Path> scan(IProgressMonitor monitor) throws CoreException {
+		ScanTask task = new ScanTask(rootDir, 0, null, monitor == null ? new NullProgressMonitor() : monitor);
+		// the walks block on the file system, they don't run on the common pool
+		ForkJoinPool pool = new ForkJoinPool(SCAN_PARALLELISM);
 		try {
-			scanDir(rootDir, (monitor == null? new NullProgressMonitor(): monitor));
-		} catch (IOException e) {
-			throw new CoreException(StatusFactory.newErrorStatus("Failed to scan "+rootDir, e));
+			directories.addAll(pool.invoke(task));
+		} catch (UncheckedIOException e) {
+			Throwable cause = e;
+			while (cause instanceof UncheckedIOException && cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			throw new CoreException(StatusFactory.newErrorStatus("Failed to scan " + rootDir, cause));
+		} finally {
+			pool.shutdown();
 		}
 		return getDirectories();
 	}
 
-	private void scanDir(Path dir, final IProgressMonitor monitor) throws IOException {
-		FileVisitor<Path> visitor = new SimpleFileVisitor<>() {
-			@Override
-			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-				if (monitor.isCanceled()) {
-					return TERMINATE;
-				}
-				Objects.requireNonNull(dir);
-				if (isExcluded(dir)) {
-					return SKIP_SUBTREE;
-				}
-				if (hasTargetFile(dir)) {
-					directories.add(dir);
-					return includeNested?CONTINUE:SKIP_SUBTREE;
-				}
-				return CONTINUE;
-			}
-
-			@Override
-			public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
-				Objects.requireNonNull(file);
-    			if (exc instanceof FileSystemLoopException) {
-        			return CONTINUE;
-    			} else {
-        			throw exc;
-    			}
-			}
-
-		};
-		Files.walkFileTree(dir, FOLLOW_LINKS_OPTION, maxDepth, visitor);
+	/**
+	 * Clears the content of the directories cached by previous scans.
+	 */
+	public static void clearCache() {
+		directoryCache.clear();
 	}
 
 	private boolean isExcluded(Path dir) {
@@ -179,27 +178,166 @@ public class BasicFileDetector {
 			return true;
 		}
 		boolean excluded = false;
-		for (String pattern : exclusions) {
-			boolean includePattern = false;
-			if (pattern.startsWith("!")) {
-				includePattern = true;
-				pattern = pattern.substring(1);
-			}
-			PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+		for (ExclusionMatcher matcher : exclusionMatchers) {
 			if (matcher.matches(dir)) {
-				excluded = includePattern ? false : true;
+				excluded = !matcher.isInclusion();
 			}
 		}
 		return excluded;
 	}
 
-	private boolean hasTargetFile(Path dir) {
+	private boolean hasTargetFile(DirectoryInfo info) {
 		for (String fileName : fileNames) {
-			if (Files.isRegularFile(dir.resolve(fileName))) {
+			if (info.hasFile(fileName)) {
 				return true;
 			}
 		}
 		return false;
 	}
 
+	private static DirectoryInfo getDirectoryInfo(Path dir, BasicFileAttributes attributes) throws IOException {
+		Path key = dir.toAbsolutePath();
+		long lastModified = attributes.lastModifiedTime().toMillis();
+		DirectoryInfo info = directoryCache.get(key);
+		if (info != null && info.lastModified == lastModified) {
+			return info;
+		}
+		List<String> subDirectories = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+			for (Path entry : stream) {
+				if (Files.isDirectory(entry)) {
+					subDirectories.add(entry.getFileName().toString());
+				}
+			}
+		}
+		info = new DirectoryInfo(key, lastModified, subDirectories);
+		if (System.currentTimeMillis() - lastModified > RACY_INTERVAL) {
+			if (directoryCache.size() >= MAX_CACHED_DIRECTORIES) {
+				directoryCache.clear();
+			}
+			directoryCache.put(key, info);
+		}
+		return info;
+	}
+
+	/**
+	 * Walks a directory and, in parallel, its sub-directories.
+	 */
+	private class ScanTask extends RecursiveTask<List<Path>> {
+		private static final long serialVersionUID = 1L;
+
+		private final Path dir;
+		private final int depth;
+		private final Ancestor parent;
+		private final IProgressMonitor monitor;
+
+		ScanTask(Path dir, int depth, Ancestor parent, IProgressMonitor monitor) {
+			this.dir = dir;
+			this.depth = depth;
+			this.parent = parent;
+			this.monitor = monitor;
+		}
+
+		@Override
+		protected List<Path> compute() {
+			if (monitor.isCanceled() || isExcluded(dir)) {
+				return Collections.emptyList();
+			}
+			DirectoryInfo info;
+			Object fileKey;
+			try {
+				BasicFileAttributes attributes = Files.readAttributes(dir, BasicFileAttributes.class);
+				if (!attributes.isDirectory()) {
+					return Collections.emptyList();
+				}
+				fileKey = attributes.fileKey() == null ? dir.toRealPath() : attributes.fileKey();
+				if (parent != null && parent.contains(fileKey)) {
+					// symbolic link loop
+					return Collections.emptyList();
+				}
+				info = getDirectoryInfo(dir, attributes);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			List<Path> found = new ArrayList<>();
+			if (hasTargetFile(info)) {
+				found.add(dir);
+				if (!includeNested) {
+					return found;
+				}
+			}
+			if (depth + 1 >= maxDepth || info.subDirectories.isEmpty()) {
+				return found;
+			}
+			Ancestor ancestor = new Ancestor(fileKey, parent);
+			List<ScanTask> tasks = new ArrayList<>(info.subDirectories.size());
+			for (String name : info.subDirectories) {
+				tasks.add(new ScanTask(dir.resolve(name), depth + 1, ancestor, monitor));
+			}
+			invokeAll(tasks);
+			for (ScanTask task : tasks) {
+				found.addAll(task.join());
+			}
+			return found;
+		}
+	}
+
+	/**
+	 * The file keys of the directories leading to a walked directory, used to
+	 * detect symbolic link loops.
+	 */
+	private static class Ancestor {
+		private final Object fileKey;
+		private final Ancestor parent;
+
+		Ancestor(Object fileKey, Ancestor parent) {
+			this.fileKey = fileKey;
+			this.parent = parent;
+		}
+
+		boolean contains(Object key) {
+			for (Ancestor ancestor = this; ancestor != null; ancestor = ancestor.parent) {
+				if (Objects.equals(ancestor.fileKey, key)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static class DirectoryInfo {
+		private final Path dir;
+		private final long lastModified;
+		private final List<String> subDirectories;
+		private final Map<String, Boolean> files = new ConcurrentHashMap<>(2);
+
+		DirectoryInfo(Path dir, long lastModified, List<String> subDirectories) {
+			this.dir = dir;
+			this.lastModified = lastModified;
+			this.subDirectories = subDirectories;
+		}
+
+		boolean hasFile(String fileName) {
+			return files.computeIfAbsent(fileName, name -> Files.isRegularFile(dir.resolve(name)));
+		}
+	}
+
+	private static class ExclusionMatcher {
+		private final PathMatcher matcher;
+		private final boolean inclusion;
+
+		ExclusionMatcher(String pattern) {
+			this.inclusion = pattern.startsWith("!");
+			this.matcher = FileSystems.getDefault().getPathMatcher("glob:" + (inclusion ? pattern.substring(1) : pattern));
+		}
+
+		boolean matches(Path path) {
+			return matcher.matches(path);
+		}
+
+		boolean isInclusion() {
+			return inclusion;
+		}
+	}
+
 }
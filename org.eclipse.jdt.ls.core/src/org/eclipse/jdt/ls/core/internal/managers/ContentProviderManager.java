@@ -12,24 +12,46 @@
  *******************************************************************************/
 package org.eclipse.jdt.ls.core.internal.managers;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.ls.core.internal.IContentProvider;
 import org.eclipse.jdt.ls.core.internal.IDecompiler;
+import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.jdt.ls.core.internal.SourceContentProvider;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+
 public class ContentProviderManager {
 
 	private static final String EMPTY_CONTENT = "";
@@ -40,13 +62,44 @@ public class ContentProviderManager {
 	private static final String URI_PATTERN = "uriPattern";
 	private static final int DEFAULT_PRIORITY = 500;
 	private static final Pattern DEFAULT_URI_PATTERN = Pattern.compile("jdt://contents/.*\\.class.*");
+	private static final String JDT_SCHEME = "jdt";
+	private static final String CACHE_FOLDER = "classfile-contents";
+	private static final String CACHE_FILE_EXTENSION = ".gz";
+	private static final long MAX_CACHED_CHARS = 8 * 1024 * 1024;
+	private static final int MAX_CACHED_FILES = 2000;
+	private static final String UNATTACHED_SOURCES = "unattached";
 
 	private final PreferenceManager preferenceManager;
 
 	private Set<ContentProviderDescriptor> descriptors;
 
+	/**
+	 * Decompiled contents of class files located in archives, keyed by class
+	 * file, content providers, archive size and modification time and source
+	 * attachment
+	 */
+	private final Cache<String, String> contentCache = CacheBuilder.newBuilder().maximumWeight(MAX_CACHED_CHARS).weigher((String key, String content) -> content.length()).build();
+
+	/**
+	 * Folder persisting the cached contents across sessions, or <code>null</code>
+	 * when contents aren't cached
+	 */
+	private final File cacheFolder;
+
 	public ContentProviderManager(PreferenceManager preferenceManager) {
+		this(preferenceManager, null);
+	}
+
+	/**
+	 * @param preferenceManager
+	 *            the preference manager
+	 * @param stateLocation
+	 *            the folder under which contents are cached, or
+	 *            <code>null</code> to disable caching
+	 */
+	public ContentProviderManager(PreferenceManager preferenceManager, File stateLocation) {
 		this.preferenceManager = preferenceManager;
+		this.cacheFolder = stateLocation == null ? null : new File(stateLocation, CACHE_FOLDER);
 	}
 
 	/**
@@ -88,6 +141,8 @@ public class ContentProviderManager {
 			return EMPTY_CONTENT;
 		}
 
+		String contentKey = null;
+		boolean cacheChecked = false;
 		int previousPriority = -1;
 		for (ContentProviderDescriptor match : matches) {
 			IContentProvider contentProvider = match.getContentProvider();
@@ -103,6 +158,16 @@ public class ContentProviderManager {
 			if (previousPriority == match.priority) {
 				requestPreferredProvider(match.priority, matches);
 			}
+			// the attached sources are never cached, they're looked up before the cached contents
+			boolean cacheable = cacheFolder != null && !(contentProvider instanceof SourceContentProvider);
+			if (cacheable && !cacheChecked) {
+				cacheChecked = true;
+				contentKey = getContentKey(source, cacheKey, providerType, matches);
+				String cached = contentKey == null ? null : getCachedContent(contentKey);
+				if (cached != null) {
+					return cached;
+				}
+			}
 			try {
 				contentProvider.setPreferences(preferenceManager.getPreferences());
 				String content = null;
@@ -114,6 +179,9 @@ public class ContentProviderManager {
 				if (monitor.isCanceled()) {
 					return EMPTY_CONTENT;
 				} else if (content != null) {
+					if (cacheable && contentKey != null && !content.isEmpty()) {
+						putCachedContent(contentKey, content);
+					}
 					return content;
 				}
 			} catch (Exception e) {
@@ -126,6 +194,142 @@ public class ContentProviderManager {
 		return EMPTY_CONTENT;
 	}
 
+	/**
+	 * Discards the contents cached in memory and on disk.
+	 */
+	public void clearCache() {
+		contentCache.invalidateAll();
+		File[] files = cacheFolder == null ? null : cacheFolder.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+
+	/**
+	 * Only contents of class files from archives are cached, the key changes
+	 * when the archive, its source attachment or the matching providers change.
+	 */
+	private static String getContentKey(Object source, String cacheKey, Class<? extends IContentProvider> providerType, List<ContentProviderDescriptor> matches) {
+		if (matches == null || matches.isEmpty()) {
+			return null;
+		}
+		IClassFile classFile = null;
+		if (source instanceof IClassFile) {
+			classFile = (IClassFile) source;
+		} else if (source instanceof URI && JDT_SCHEME.equals(((URI) source).getScheme())) {
+			classFile = JDTUtils.resolveClassFile((URI) source);
+		}
+		if (classFile == null) {
+			return null;
+		}
+		IPackageFragmentRoot root = JavaModelUtil.getPackageFragmentRoot(classFile);
+		if (root == null || !root.isArchive()) {
+			return null;
+		}
+		IResource resource = root.getResource();
+		IPath location = resource == null ? root.getPath() : resource.getLocation();
+		File archive = location == null ? null : location.toFile();
+		if (archive == null || !archive.isFile()) {
+			return null;
+		}
+		String providerIds = matches.stream().map(d -> d.id).collect(Collectors.joining(","));
+		return String.join("|", cacheKey, providerType.getSimpleName(), providerIds, Long.toString(archive.length()), Long.toString(archive.lastModified()), getSourceAttachmentKey(root));
+	}
+
+	private static String getSourceAttachmentKey(IPackageFragmentRoot root) {
+		IPath sourcePath;
+		try {
+			sourcePath = root.getSourceAttachmentPath();
+		} catch (JavaModelException e) {
+			sourcePath = null;
+		}
+		if (sourcePath == null) {
+			return UNATTACHED_SOURCES;
+		}
+		IResource resource = ResourcesPlugin.getWorkspace().getRoot().findMember(sourcePath);
+		IPath location = resource == null ? sourcePath : resource.getLocation();
+		File sources = location == null ? null : location.toFile();
+		long modified = sources == null ? 0 : sources.lastModified();
+		return sourcePath.toString() + "@" + modified;
+	}
+
+	private String getCachedContent(String contentKey) {
+		String content = contentCache.getIfPresent(contentKey);
+		if (content == null) {
+			content = readCachedContent(contentKey);
+			if (content != null) {
+				contentCache.put(contentKey, content);
+			}
+		}
+		return content;
+	}
+
+	private void putCachedContent(String contentKey, String content) {
+		contentCache.put(contentKey, content);
+		writeCachedContent(contentKey, content);
+	}
+
+	private File getCacheFile(String contentKey) {
+		return new File(cacheFolder, Hashing.sha256().hashString(contentKey, StandardCharsets.UTF_8).toString() + CACHE_FILE_EXTENSION);
+	}
+
+	/**
+	 * Cache files are gzipped, holding the content key followed by the UTF-8
+	 * encoded content.
+	 */
+	private String readCachedContent(String contentKey) {
+		File file = getCacheFile(contentKey);
+		if (!file.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new GZIPInputStream(Files.newInputStream(file.toPath())))) {
+			if (!contentKey.equals(in.readUTF())) {
+				return null;
+			}
+			String content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+			// the least recently used files are pruned first
+			file.setLastModified(System.currentTimeMillis());
+			return content;
+		} catch (IOException e) {
+			JavaLanguageServerPlugin.logException("Unable to read cached content from " + file, e);
+			file.delete();
+			return null;
+		}
+	}
+
+	private void writeCachedContent(String contentKey, String content) {
+		File file = getCacheFile(contentKey);
+		File tempFile = null;
+		try {
+			Files.createDirectories(cacheFolder.toPath());
+			tempFile = File.createTempFile(file.getName(), null, cacheFolder);
+			try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(Files.newOutputStream(tempFile.toPath())))) {
+				out.writeUTF(contentKey);
+				out.write(content.getBytes(StandardCharsets.UTF_8));
+			}
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			JavaLanguageServerPlugin.logException("Unable to cache content to " + file, e);
+			if (tempFile != null) {
+				tempFile.delete();
+			}
+			return;
+		}
+		pruneCachedContents();
+	}
+
+	private void pruneCachedContents() {
+		File[] files = cacheFolder.listFiles((dir, name) -> name.endsWith(CACHE_FILE_EXTENSION));
+		if (files != null && files.length > MAX_CACHED_FILES) {
+			Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+			for (int i = 0; i < files.length - MAX_CACHED_FILES; i++) {
+				files[i].delete();
+			}
+		}
+	}
+
 	private synchronized Set<ContentProviderDescriptor> getDescriptors(List<String> preferredProviderIds) {
 		if (descriptors == null) {
 			IConfigurationElement[] elements = Platform.getExtensionRegistry().getConfigurationElementsFor(EXTENSION_POINT_ID);
@@ -22,8 +22,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
@@ -80,6 +83,40 @@ public class DigestStore {
 
 	}
 
+	/**
+	 * Updates the digests for the given paths, persisting the store only once.
+	 *
+	 * @param paths
+	 *            Paths to the files in questions
+	 * @return the paths of the files considered changed
+	 * @throws CoreException
+	 *             if a digest cannot be computed
+	 */
+	public Collection<Path> updateDigests(Collection<Path> paths) throws CoreException {
+		Map<String, String> digests = new HashMap<>(paths.size());
+		for (Path p : paths) {
+			try {
+				digests.put(p.toString(), computeDigest(p));
+			} catch (NoSuchAlgorithmException | IOException e) {
+				throw new CoreException(StatusFactory.newErrorStatus("Exception updating digest for " + p, e));
+			}
+		}
+		List<Path> changed = new ArrayList<>();
+		synchronized (fileDigests) {
+			for (Path p : paths) {
+				String digest = digests.get(p.toString());
+				if (!digest.equals(fileDigests.get(p.toString()))) {
+					fileDigests.put(p.toString(), digest);
+					changed.add(p);
+				}
+			}
+			if (!changed.isEmpty()) {
+				serializeFileDigests();
+			}
+		}
+		return changed;
+	}
+
 	private void serializeFileDigests() {
 		try (ObjectOutputStream outStream = new ObjectOutputStream(new FileOutputStream(stateFile))) {
 			outStream.writeObject(fileDigests);
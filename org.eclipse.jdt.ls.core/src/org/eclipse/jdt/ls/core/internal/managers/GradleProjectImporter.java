@@ -18,6 +18,7 @@ import java.io.File;
 import java.io.FilenameFilter;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -123,20 +124,22 @@ public class GradleProjectImporter extends AbstractProjectImporter {
 		subMonitor.worked(1);
 		directories.forEach(d -> importDir(d, subMonitor.newChild(1)));
 		// store the digest for the imported gradle projects.
+		List<Path> buildFiles = new ArrayList<>();
 		ProjectUtils.getGradleProjects().forEach(project -> {
 			File buildFile = project.getFile(BUILD_GRADLE_DESCRIPTOR).getLocation().toFile();
 			File settingsFile = project.getFile(SETTINGS_GRADLE_DESCRIPTOR).getLocation().toFile();
-			try {
-				if (buildFile.exists()) {
-					JavaLanguageServerPlugin.getDigestStore().updateDigest(buildFile.toPath());
-				}
-				if (settingsFile.exists()) {
-					JavaLanguageServerPlugin.getDigestStore().updateDigest(settingsFile.toPath());
-				}
-			} catch (CoreException e) {
-				JavaLanguageServerPlugin.logException("Failed to update digest for gradle build file", e);
+			if (buildFile.exists()) {
+				buildFiles.add(buildFile.toPath());
+			}
+			if (settingsFile.exists()) {
+				buildFiles.add(settingsFile.toPath());
 			}
 		});
+		try {
+			JavaLanguageServerPlugin.getDigestStore().updateDigests(buildFiles);
+		} catch (CoreException e) {
+			JavaLanguageServerPlugin.logException("Failed to update digest for gradle build file", e);
+		}
 		subMonitor.done();
 	}
 
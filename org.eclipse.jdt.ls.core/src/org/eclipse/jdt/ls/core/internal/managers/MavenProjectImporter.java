@@ -13,6 +13,8 @@
 package org.eclipse.jdt.ls.core.internal.managers;
 
 import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -58,9 +60,20 @@ import org.eclipse.m2e.core.project.ProjectImportConfiguration;
 @SuppressWarnings("restriction")
 public class MavenProjectImporter extends AbstractProjectImporter {
 
-	private static final int MAX_PROJECTS_TO_IMPORT = 50;
+	static final int MIN_PROJECTS_TO_IMPORT = 10;
 
-	private static final long MAX_MEMORY = 1536 * 1024 * 1024; // 1.5g
+	static final int MAX_PROJECTS_TO_IMPORT = 500;
+
+	/**
+	 * Rough estimate of the heap retained by m2e while importing a single
+	 * module (resolved model, dependency graph and project facade).
+	 */
+	static final long ESTIMATED_PROJECT_FOOTPRINT = 8 * 1024 * 1024; // 8m
+
+	/**
+	 * Fraction of the maximum heap which is kept free while importing.
+	 */
+	private static final double HEAP_RESERVE_RATIO = 0.25;
 
 	public static final String IMPORTING_MAVEN_PROJECTS = "Importing Maven project(s)";
 
@@ -163,31 +176,34 @@ public class MavenProjectImporter extends AbstractProjectImporter {
 			}
 		}
 		if (!toImport.isEmpty()) {
-			if (toImport.size() > MAX_PROJECTS_TO_IMPORT && Runtime.getRuntime().maxMemory() <= MAX_MEMORY) {
+			int batchSize = getImportBatchSize();
+			if (toImport.size() > batchSize) {
 				JavaLanguageServerPlugin.logInfo("Projects size:" + toImport.size());
 				Iterator<MavenProjectInfo> iter = toImport.iterator();
-				List<IMavenProjectImportResult> results = new ArrayList<>(MAX_PROJECTS_TO_IMPORT);
+				List<IMavenProjectImportResult> results = new ArrayList<>(toImport.size());
 				SubMonitor monitor2 = SubMonitor.convert(monitor, toImport.size() * 2);
-				int it = 1;
+				int processed = 0;
 				while (iter.hasNext()) {
-					int percent = Math.min(100, it++ * 100 * MAX_PROJECTS_TO_IMPORT / (toImport.size() + 1));
+					int percent = Math.min(100, processed * 100 / toImport.size());
 					monitor2.setTaskName(percent + "% " + IMPORTING_MAVEN_PROJECTS);
-					List<MavenProjectInfo> importPartial = new ArrayList<>();
-					int i = 0;
-					while (i++ < MAX_PROJECTS_TO_IMPORT && iter.hasNext()) {
+					List<MavenProjectInfo> importPartial = new ArrayList<>(batchSize);
+					while (importPartial.size() < batchSize && iter.hasNext()) {
 						importPartial.add(iter.next());
 					}
 					ProjectImportConfiguration importConfig = new ProjectImportConfiguration();
-					List<IMavenProjectImportResult> result = configurationManager.importProjects(importPartial, importConfig, monitor2.split(MAX_PROJECTS_TO_IMPORT));
+					List<IMavenProjectImportResult> result = configurationManager.importProjects(importPartial, importConfig, monitor2.split(importPartial.size()));
 					results.addAll(result);
-					monitor2.setWorkRemaining(toImport.size() * 2 - it * MAX_PROJECTS_TO_IMPORT);
+					processed += importPartial.size();
+					monitor2.setWorkRemaining((toImport.size() - processed) + results.size());
+					// the heap headroom changes as projects get imported, so re-evaluate it before each batch
+					batchSize = getImportBatchSize();
 				}
 				List<IProject> imported = new ArrayList<>(results.size());
 				for (IMavenProjectImportResult result : results) {
 					imported.add(result.getProject());
 				}
 				monitor2.setTaskName("Updating Maven project(s)");
-				updateProjects(imported, lastWorkspaceStateSaved, monitor2.split(projects.size()));
+				updateProjects(imported, lastWorkspaceStateSaved, monitor2.split(imported.size()));
 				monitor2.done();
 			} else {
 				ProjectImportConfiguration importConfig = new ProjectImportConfiguration();
@@ -199,6 +215,26 @@ public class MavenProjectImporter extends AbstractProjectImporter {
 		subMonitor.done();
 	}
 
+	/**
+	 * Returns the number of Maven projects to import in a single
+	 * {@link IProjectConfigurationManager#importProjects} call, based on the
+	 * current heap headroom.
+	 */
+	private static int getImportBatchSize() {
+		MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+		long max = heap.getMax() > 0 ? heap.getMax() : Runtime.getRuntime().maxMemory();
+		return getImportBatchSize(max, heap.getUsed());
+	}
+
+	static int getImportBatchSize(long maxHeap, long usedHeap) {
+		long available = maxHeap - usedHeap - (long) (maxHeap * HEAP_RESERVE_RATIO);
+		if (available <= 0) {
+			return MIN_PROJECTS_TO_IMPORT;
+		}
+		long size = available / ESTIMATED_PROJECT_FOOTPRINT;
+		return (int) Math.max(MIN_PROJECTS_TO_IMPORT, Math.min(MAX_PROJECTS_TO_IMPORT, size));
+	}
+
 	private long getLastWorkspaceStateModified() {
 		File workspaceStateFile = MavenPluginActivator.getDefault().getMavenProjectManager().getWorkspaceStateFile();
 		return workspaceStateFile.lastModified();
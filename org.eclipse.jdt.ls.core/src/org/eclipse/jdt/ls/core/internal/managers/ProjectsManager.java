@@ -20,6 +20,7 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -96,6 +97,8 @@ public abstract class ProjectsManager implements ISaveParticipant, IProjectsMana
 	@Override
 	public void initializeProjects(final Collection<IPath> rootPaths, IProgressMonitor monitor) throws CoreException, OperationCanceledException {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, 100);
+		// the root folders are scanned again from scratch
+		BasicFileDetector.clearCache();
 		cleanInvalidProjects(rootPaths, subMonitor.split(20));
 		createJavaProject(getDefaultProject(), subMonitor.split(10));
 		cleanupResources(getDefaultProject());
@@ -152,7 +155,11 @@ public abstract class ProjectsManager implements ISaveParticipant, IProjectsMana
 				removedJob.cancel();
 			}
 		}
-		WorkspaceJob job = new WorkspaceJob("Updating workspace folders") {
+		if (!removedRootPaths.isEmpty()) {
+			// release the directories of the removed folders
+			BasicFileDetector.clearCache();
+		}
+		Job job = new Job("Updating workspace folders") {
 
 			@SuppressWarnings("unchecked")
 			@Override
@@ -166,43 +173,70 @@ public abstract class ProjectsManager implements ISaveParticipant, IProjectsMana
 			}
 
 			@Override
-			public IStatus runInWorkspace(IProgressMonitor monitor) {
+			protected IStatus run(IProgressMonitor monitor) {
 				IStatus status = Status.OK_STATUS;
-				SubMonitor subMonitor = SubMonitor.convert(monitor, addedRootPaths.size() + removedRootPaths.size());
+				SubMonitor subMonitor = SubMonitor.convert(monitor, addedRootPaths.size() + 1);
 				try {
 					long start = System.currentTimeMillis();
-					IProject[] projects = getWorkspaceRoot().getProjects();
-					for (IProject project : projects) {
-						if (ResourceUtils.isContainedIn(project.getLocation(), removedRootPaths)) {
-							try {
-								project.delete(false, true, subMonitor.split(1));
-							} catch (CoreException e) {
-								JavaLanguageServerPlugin.logException("Problems removing '" + project.getName() + "' from workspace.", e);
-							}
-						}
+					// the removed projects are deleted first, so they are neither imported again
+					// nor seen by the imports of the added folders
+					IProgressMonitor removalMonitor = subMonitor.split(1);
+					if (!removedRootPaths.isEmpty()) {
+						ResourcesPlugin.getWorkspace().run(m -> removeProjects(addedRootPaths, removedRootPaths, m), getWorkspaceRoot(), IWorkspace.AVOID_UPDATE, removalMonitor);
+					}
+					// import each folder in its own workspace operation, so the workspace root
+					// is only locked while a folder is imported and other requests can interleave
+					for (IPath rootPath : addedRootPaths) {
+						IProgressMonitor folderMonitor = subMonitor.split(1);
+						ResourcesPlugin.getWorkspace().run(m -> importProjects(Collections.singleton(rootPath), m), getWorkspaceRoot(), IWorkspace.AVOID_UPDATE, folderMonitor);
 					}
-					importProjects(addedRootPaths, subMonitor.split(addedRootPaths.size()));
 					registerWatchers(true);
 					long elapsed = System.currentTimeMillis() - start;
 
 					JavaLanguageServerPlugin.logInfo("Updated workspace folders in " + elapsed + " ms: Added " + addedRootPaths.size() + " folder(s), removed" + removedRootPaths.size() + " folders.");
 					JavaLanguageServerPlugin.logInfo(getWorkspaceInfo());
 					return Status.OK_STATUS;
+				} catch (OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
 				} catch (CoreException e) {
 					String msg = "Error updating workspace folders";
 					JavaLanguageServerPlugin.logError(msg);
 					status = StatusFactory.newErrorStatus(msg, e);
 				}
 
-				cleanInvalidProjects(preferenceManager.getPreferences().getRootPaths(), monitor);
+				try {
+					ResourcesPlugin.getWorkspace().run(m -> cleanInvalidProjects(preferenceManager.getPreferences().getRootPaths(), m), getWorkspaceRoot(), IWorkspace.AVOID_UPDATE, monitor);
+				} catch (CoreException e) {
+					JavaLanguageServerPlugin.logException("Problems cleaning invalid projects", e);
+				}
 				return status;
 			}
 		};
-		job.setRule(getWorkspaceRoot());
 		job.schedule();
 		return job;
 	}
 
+	/**
+	 * Deletes the projects contained in the removed folders, except the ones
+	 * also contained in an added folder.
+	 */
+	private void removeProjects(Collection<IPath> addedRootPaths, Collection<IPath> removedRootPaths, IProgressMonitor monitor) {
+		IProject[] projects = getWorkspaceRoot().getProjects();
+		SubMonitor subMonitor = SubMonitor.convert(monitor, projects.length);
+		for (IProject project : projects) {
+			IPath location = project.getLocation();
+			if (ResourceUtils.isContainedIn(location, removedRootPaths) && !ResourceUtils.isContainedIn(location, addedRootPaths)) {
+				try {
+					project.delete(false, true, subMonitor.split(1));
+				} catch (CoreException e) {
+					JavaLanguageServerPlugin.logException("Problems removing '" + project.getName() + "' from workspace.", e);
+				}
+			} else {
+				subMonitor.worked(1);
+			}
+		}
+	}
+
 	public void cleanupResources(IProject project) throws CoreException {
 		IJavaProject javaProj = JavaCore.create(project);
 		if (javaProj == null) {
@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.managers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IImportDeclaration;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IOrdinaryClassFile;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+
+/**
+ * Low priority job discovering and attaching the sources of the libraries
+ * referenced by the opened files, so that hover and navigation don't have to
+ * wait for them.
+ */
+public class SourcePrefetchJob extends Job {
+
+	private static final long SCHEDULE_DELAY = 2000L;
+
+	/**
+	 * Delay between two source lookups, to not flood the remote repositories
+	 */
+	private static final long LOOKUP_INTERVAL = 500L;
+
+	/**
+	 * Maximum number of libraries looked up for a single file
+	 */
+	private static final int MAX_LIBRARIES_PER_FILE = 5;
+
+	private static final SourcePrefetchJob instance = new SourcePrefetchJob();
+
+	private final Set<ICompilationUnit> pendingUnits = new LinkedHashSet<>();
+
+	/**
+	 * Class files requested by a hover, looked up first
+	 */
+	private final Set<IClassFile> pendingClassFiles = new LinkedHashSet<>();
+
+	/**
+	 * Roots of the libraries already looked up
+	 */
+	private final Set<IPath> visitedRoots = Collections.synchronizedSet(new HashSet<>());
+
+	SourcePrefetchJob() {
+		super("Prefetch library sources");
+		setPriority(Job.DECORATE);
+		setSystem(true);
+	}
+
+	public static SourcePrefetchJob getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Schedules the lookup of the sources of the libraries imported by the given
+	 * compilation unit.
+	 *
+	 * @param unit
+	 *            the opened compilation unit
+	 */
+	public void prefetch(ICompilationUnit unit) {
+		if (unit == null) {
+			return;
+		}
+		synchronized (pendingUnits) {
+			pendingUnits.add(unit);
+		}
+		schedule(SCHEDULE_DELAY);
+	}
+
+	/**
+	 * Schedules the lookup of the sources of the library containing the given
+	 * class file, ahead of the libraries of the opened files.
+	 *
+	 * @param classFile
+	 *            a class file without attached sources
+	 */
+	public void prefetch(IClassFile classFile) {
+		if (classFile == null) {
+			return;
+		}
+		synchronized (pendingUnits) {
+			pendingClassFiles.add(classFile);
+		}
+		schedule();
+	}
+
+	@Override
+	protected IStatus run(IProgressMonitor monitor) {
+		List<IClassFile> requested;
+		List<ICompilationUnit> units;
+		synchronized (pendingUnits) {
+			requested = new ArrayList<>(pendingClassFiles);
+			units = new ArrayList<>(pendingUnits);
+			pendingClassFiles.clear();
+			pendingUnits.clear();
+		}
+		List<IClassFile> classFiles = new ArrayList<>(requested);
+		for (ICompilationUnit unit : units) {
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			classFiles.addAll(getLibrariesToPrefetch(unit));
+		}
+		boolean first = true;
+		for (IClassFile classFile : classFiles) {
+			IPath root = getArchivePath(classFile);
+			// explicitly requested libraries are looked up again
+			if (root == null || (!visitedRoots.add(root) && !requested.contains(classFile))) {
+				continue;
+			}
+			if (!first) {
+				try {
+					Thread.sleep(LOOKUP_INTERVAL);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return Status.CANCEL_STATUS;
+				}
+			}
+			if (monitor.isCanceled()) {
+				// look them up again next time
+				visitedRoots.remove(root);
+				return Status.CANCEL_STATUS;
+			}
+			first = false;
+			discoverSource(classFile, monitor);
+		}
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public boolean belongsTo(Object family) {
+		return SourcePrefetchJob.class.equals(family);
+	}
+
+	private static void discoverSource(IClassFile classFile, IProgressMonitor monitor) {
+		try {
+			if (classFile.getBuffer() != null) {
+				return;
+			}
+			ProjectsManager projectsManager = JavaLanguageServerPlugin.getProjectsManager();
+			IJavaProject javaProject = classFile.getJavaProject();
+			if (projectsManager == null || javaProject == null) {
+				return;
+			}
+			Optional<IBuildSupport> bs = projectsManager.getBuildSupport(javaProject.getProject());
+			if (bs.isPresent()) {
+				bs.get().discoverSource(classFile, monitor);
+			}
+		} catch (CoreException e) {
+			JavaLanguageServerPlugin.logException("Unable to prefetch the sources of " + classFile.getElementName(), e);
+		}
+	}
+
+	/**
+	 * Returns a class file of each library, without attached sources, imported by
+	 * the given compilation unit, the most imported libraries first.
+	 *
+	 * @param unit
+	 *            the compilation unit
+	 * @return class files of the libraries to look up
+	 */
+	static List<IClassFile> getLibrariesToPrefetch(ICompilationUnit unit) {
+		IJavaProject javaProject = unit.getJavaProject();
+		if (javaProject == null || !unit.exists()) {
+			return Collections.emptyList();
+		}
+		Map<IPath, IClassFile> classFiles = new LinkedHashMap<>();
+		Map<IPath, Integer> references = new LinkedHashMap<>();
+		try {
+			for (IImportDeclaration importDeclaration : unit.getImports()) {
+				if (importDeclaration.isOnDemand()) {
+					continue;
+				}
+				String name = importDeclaration.getElementName();
+				IType type = javaProject.findType(name);
+				if (type == null && Flags.isStatic(importDeclaration.getFlags())) {
+					int index = name.lastIndexOf('.');
+					type = index > 0 ? javaProject.findType(name.substring(0, index)) : null;
+				}
+				if (type == null || !type.isBinary()) {
+					continue;
+				}
+				IOrdinaryClassFile classFile = type.getClassFile();
+				IPath root = getArchivePath(classFile);
+				if (root != null && classFile.getBuffer() == null) {
+					classFiles.putIfAbsent(root, classFile);
+					references.merge(root, 1, Integer::sum);
+				}
+			}
+		} catch (JavaModelException e) {
+			JavaLanguageServerPlugin.logException("Unable to find the libraries referenced by " + unit.getElementName(), e);
+		}
+		List<IPath> roots = new ArrayList<>(classFiles.keySet());
+		roots.sort((r1, r2) -> references.get(r2) - references.get(r1));
+		List<IClassFile> result = new ArrayList<>();
+		for (int i = 0; i < roots.size() && i < MAX_LIBRARIES_PER_FILE; i++) {
+			result.add(classFiles.get(roots.get(i)));
+		}
+		return result;
+	}
+
+	private static IPath getArchivePath(IClassFile classFile) {
+		IPackageFragmentRoot root = (IPackageFragmentRoot) classFile.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		try {
+			if (root == null || !root.isArchive() || root.getSourceAttachmentPath() != null) {
+				return null;
+			}
+		} catch (JavaModelException e) {
+			return null;
+		}
+		return root.getPath();
+	}
+}
@@ -12,17 +12,22 @@
  *******************************************************************************/
 package org.eclipse.jdt.ls.core.internal.managers;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -50,6 +55,8 @@ public class UpdateClasspathJob extends WorkspaceJob {
 
 	private static final UpdateClasspathJob instance = new UpdateClasspathJob();
 
+	private final Map<IJavaProject, LibraryRegistry> registries = new HashMap<>();
+
 	UpdateClasspathJob() {
 		super("Update classpath Job");
 	}
@@ -61,27 +68,36 @@ public class UpdateClasspathJob extends WorkspaceJob {
 			requests = new ArrayList<>(this.queue);
 			this.queue.clear();
 		}
-		Map<IJavaProject, UpdateClasspathRequest> mergedRequestPerProject = requests.stream().collect(
-			Collectors.groupingBy(UpdateClasspathRequest::getProject,
-				Collectors.reducing(new UpdateClasspathRequest(), (mergedRequest, request) -> {
-					mergedRequest.setProject(request.getProject());
-					mergedRequest.getInclude().addAll(request.getInclude());
-					mergedRequest.getExclude().addAll(request.getExclude());
-					mergedRequest.getSources().putAll(request.getSources());
-					return mergedRequest;
-				})
-			)
-		);
+		Map<IJavaProject, UpdateClasspathRequest> mergedRequestPerProject = new LinkedHashMap<>();
+		for (UpdateClasspathRequest request : requests) {
+			UpdateClasspathRequest mergedRequest = mergedRequestPerProject.computeIfAbsent(request.getProject(), project -> {
+				UpdateClasspathRequest merged = new UpdateClasspathRequest();
+				merged.setProject(project);
+				return merged;
+			});
+			mergedRequest.getInclude().addAll(request.getInclude());
+			mergedRequest.getExclude().addAll(request.getExclude());
+			mergedRequest.getSources().putAll(request.getSources());
+			if (request.getChanges() == null || mergedRequest.getChanges() == null) {
+				mergedRequest.setChanges(null);
+			} else {
+				mergedRequest.getChanges().addAll(request.getChanges());
+			}
+		}
 		for (Map.Entry<IJavaProject, UpdateClasspathRequest> entry : mergedRequestPerProject.entrySet()) {
 			if (monitor.isCanceled()) {
 				return Status.CANCEL_STATUS;
 			}
-			if (entry.getValue() != null) {
-				final IJavaProject project = entry.getKey();
-				final UpdateClasspathRequest request = entry.getValue();
-				doUpdateClasspath(project, request.include, request.exclude, request.sources, monitor);
+			final IJavaProject project = entry.getKey();
+			final UpdateClasspathRequest request = entry.getValue();
+			try {
+				doUpdateClasspath(project, request, monitor);
+			} catch (CoreException e) {
+				registries.remove(project);
+				throw e;
 			}
 		}
+		registries.keySet().removeIf(project -> !project.exists());
 		synchronized (queue) {
 			if (!queue.isEmpty()) {
 				schedule(SCHEDULE_DELAY);
@@ -90,26 +106,42 @@ public class UpdateClasspathJob extends WorkspaceJob {
 		return Status.OK_STATUS;
 	}
 
-	private void doUpdateClasspath(IJavaProject javaProject, Set<String> include, Set<String> exclude, Map<String, String> sources, IProgressMonitor monitor) throws CoreException {
+	private void doUpdateClasspath(IJavaProject javaProject, UpdateClasspathRequest request, IProgressMonitor monitor) throws CoreException {
 		JavaLanguageServerPlugin.logInfo(">> Updating classpath for project " + javaProject.getElementName());
 		final IPath realFolder = ProjectUtils.getProjectRealFolder(javaProject.getProject());
-		final Set<Path> binaries = ProjectUtils.collectBinaries(realFolder, include, exclude, monitor);
-		final Map<Path, IPath> expandedSources = new HashMap<>();
-		for (final Map.Entry<String, String> entry: sources.entrySet()) { // Expand sources to absolute path
-			final Path realFolderPath = realFolder.toFile().toPath();
-			final Path binary = realFolderPath.resolve(entry.getKey());
-			final Path source = realFolderPath.resolve(entry.getValue());
-			expandedSources.put(binary, new org.eclipse.core.runtime.Path(source.toString()));
-		}
-		final Map<Path, IPath> libraries = new HashMap<>();
-		for (final Path binary: binaries) {
-			if (expandedSources.containsKey(binary)) {
-				libraries.put(binary, expandedSources.get(binary));
-			} else { // If not specified in source map, try to detect it
-				libraries.put(binary, ProjectUtils.detectSources(binary));
-			}
+		LibraryRegistry registry = registries.get(javaProject);
+		boolean incremental = request.getChanges() != null && registry != null && registry.isConfiguredFor(request) && registry.update(request.getChanges());
+		if (!incremental) {
+			registry = new LibraryRegistry(request.getInclude(), request.getExclude(), request.getSources());
+			registry.scan(realFolder, monitor);
+			registries.put(javaProject, registry);
+		}
+		final Map<Path, IPath> libraries = registry.getLibraries(realFolder);
+		if (incremental && !registry.needsUpdate(libraries)) {
+			JavaLanguageServerPlugin.logInfo(">> Classpath of project " + javaProject.getElementName() + " is up to date");
+			return;
 		}
 		ProjectUtils.updateBinaries(javaProject, libraries, monitor);
+		if (!monitor.isCanceled()) {
+			registry.setApplied(libraries);
+		}
+	}
+
+	/**
+	 * Requests an update of the project classpath after a change to a single
+	 * file or folder matching the referenced libraries. The libraries known
+	 * from the previous update are reused instead of rescanning the project
+	 * folder, when possible.
+	 */
+	public void updateClasspath(IJavaProject project, ReferencedLibraries libraries, Path changed) {
+		if (project == null || libraries.getInclude() == null) {
+			return;
+		}
+		Set<String> exclude = libraries.getExclude() == null ? new HashSet<>() : libraries.getExclude();
+		Map<String, String> sources = libraries.getSources() == null ? new HashMap<>() : libraries.getSources();
+		UpdateClasspathRequest request = new UpdateClasspathRequest(project, libraries.getInclude(), exclude, sources);
+		request.setChanges(new HashSet<>(Collections.singleton(changed)));
+		update(request);
 	}
 
 	public void updateClasspath(IJavaProject project, Set<String> include, Set<String> exclude, Map<String, String> sources) {
@@ -165,6 +197,11 @@ public class UpdateClasspathJob extends WorkspaceJob {
 		private Set<String> include;
 		private Set<String> exclude;
 		private Map<String, String> sources;
+		/**
+		 * The changed library files, or <code>null</code> if the project folder
+		 * needs to be scanned again.
+		 */
+		private Set<Path> changes;
 
 		UpdateClasspathRequest(IJavaProject project, Set<String> include, Set<String> exclude, Map<String, String> sources) {
 			this.project = project;
@@ -175,6 +212,7 @@ public class UpdateClasspathJob extends WorkspaceJob {
 
 		UpdateClasspathRequest() {
 			this(null, new HashSet<>(), new HashSet<>(), new HashMap<>());
+			this.changes = new HashSet<>();
 		}
 
 		void setProject(IJavaProject project) {
@@ -197,9 +235,17 @@ public class UpdateClasspathJob extends WorkspaceJob {
 			return sources;
 		}
 
+		Set<Path> getChanges() {
+			return changes;
+		}
+
+		void setChanges(Set<Path> changes) {
+			this.changes = changes;
+		}
+
 		@Override
 		public int hashCode() {
-			return Objects.hash(include, exclude, sources, project);
+			return Objects.hash(include, exclude, sources, changes, project);
 		}
 
 		@Override
@@ -217,9 +263,120 @@ public class UpdateClasspathJob extends WorkspaceJob {
 			return Objects.equals(project, other.project)
 				&& Objects.equals(include, other.include)
 				&& Objects.equals(exclude, other.exclude)
-				&& Objects.equals(sources, other.sources);
+				&& Objects.equals(sources, other.sources)
+				&& Objects.equals(changes, other.changes);
+		}
+
+	}
+
+	/**
+	 * The binaries matching the referenced libraries of a project, along with
+	 * their modification stamps and detected source attachments.
+	 */
+	static class LibraryRegistry {
+		private final Set<String> include;
+		private final Set<String> exclude;
+		private final Map<String, String> sources;
+		private final Map<Path, Long> binaries = new LinkedHashMap<>();
+		private final Map<Path, Optional<IPath>> detectedSources = new HashMap<>();
+		private Map<Path, IPath> applied;
+		private boolean modified;
+
+		LibraryRegistry(Set<String> include, Set<String> exclude, Map<String, String> sources) {
+			this.include = new HashSet<>(include);
+			this.exclude = new HashSet<>(exclude);
+			this.sources = new HashMap<>(sources);
 		}
 
+		boolean isConfiguredFor(UpdateClasspathRequest request) {
+			return include.equals(request.getInclude()) && exclude.equals(request.getExclude()) && sources.equals(request.getSources());
+		}
+
+		void scan(IPath realFolder, IProgressMonitor monitor) throws CoreException {
+			binaries.clear();
+			detectedSources.clear();
+			for (Path binary : ProjectUtils.collectBinaries(realFolder, include, exclude, monitor)) {
+				binaries.put(binary, getLastModified(binary));
+			}
+			modified = true;
+		}
+
+		/**
+		 * Applies the given file changes to the registry.
+		 *
+		 * @return <code>false</code> if the changes cannot be applied without
+		 *         scanning the project folder again
+		 */
+		boolean update(Set<Path> changes) {
+			for (Path changed : changes) {
+				if (Files.isDirectory(changed)) {
+					return false;
+				}
+			}
+			for (Path changed : changes) {
+				Path binary = ProjectUtils.getBinaryForSources(changed);
+				if (binary != null) {
+					detectedSources.remove(binary);
+				} else if (ProjectUtils.isBinary(changed) && Files.isRegularFile(changed) && !binaries.containsKey(changed)) {
+					binaries.put(changed, getLastModified(changed));
+				}
+			}
+			// catch up with deleted or rewritten jars, events may have been coalesced
+			for (Iterator<Map.Entry<Path, Long>> iterator = binaries.entrySet().iterator(); iterator.hasNext();) {
+				Map.Entry<Path, Long> entry = iterator.next();
+				long lastModified = getLastModified(entry.getKey());
+				if (lastModified < 0) {
+					iterator.remove();
+					detectedSources.remove(entry.getKey());
+				} else if (lastModified != entry.getValue()) {
+					entry.setValue(lastModified);
+					detectedSources.remove(entry.getKey());
+					modified = true;
+				}
+			}
+			return true;
+		}
+
+		Map<Path, IPath> getLibraries(IPath realFolder) {
+			final Path realFolderPath = realFolder.toFile().toPath();
+			final Map<Path, IPath> expandedSources = new HashMap<>();
+			for (final Map.Entry<String, String> entry : sources.entrySet()) { // Expand sources to absolute path
+				final Path binary = realFolderPath.resolve(entry.getKey());
+				final Path source = realFolderPath.resolve(entry.getValue());
+				expandedSources.put(binary, new org.eclipse.core.runtime.Path(source.toString()));
+			}
+			final Map<Path, IPath> libraries = new LinkedHashMap<>();
+			for (final Path binary : binaries.keySet()) {
+				if (expandedSources.containsKey(binary)) {
+					libraries.put(binary, expandedSources.get(binary));
+				} else { // If not specified in source map, try to detect it
+					libraries.put(binary, detectedSources.computeIfAbsent(binary, b -> Optional.ofNullable(ProjectUtils.detectSources(b))).orElse(null));
+				}
+			}
+			return libraries;
+		}
+
+		/**
+		 * Returns whether the classpath has to be updated for the given
+		 * libraries, i.e. the library set changed or one of the jars was
+		 * rewritten since the last update.
+		 */
+		boolean needsUpdate(Map<Path, IPath> libraries) {
+			return modified || !libraries.equals(applied);
+		}
+
+		void setApplied(Map<Path, IPath> libraries) {
+			this.applied = libraries;
+			this.modified = false;
+		}
+
+		private static long getLastModified(Path file) {
+			try {
+				return Files.getLastModifiedTime(file).toMillis();
+			} catch (IOException e) {
+				return -1;
+			}
+		}
 	}
 
 	public static UpdateClasspathJob getInstance() {
@@ -276,6 +276,13 @@ public class Preferences {
 	 */
 	public static final String SELECTIONRANGE_ENABLED_KEY = "java.selectionRange.enabled";
 
+	/**
+	 * Preference key to enable/disable the background computation of the
+	 * semantic tokens, folding ranges and document symbols of the reconciled
+	 * documents.
+	 */
+	public static final String PRECOMPUTE_DOCUMENT_VIEWS_ENABLED_KEY = "java.precomputeDocumentViews.enabled";
+
 	/**
 	 * A named preference that holds the allowed gradle wrapper sha256 checksums.
 	 * <p>
@@ -482,6 +489,7 @@ public class Preferences {
 	private boolean completionOverwrite;
 	private boolean foldingRangeEnabled;
 	private boolean selectionRangeEnabled;
+	private boolean precomputeDocumentViewsEnabled;
 	private boolean guessMethodArguments;
 	private boolean javaFormatComments;
 	private boolean hashCodeEqualsTemplateUseJava7Objects;
@@ -704,6 +712,7 @@ public class Preferences {
 		completionOverwrite = true;
 		foldingRangeEnabled = true;
 		selectionRangeEnabled = true;
+		precomputeDocumentViewsEnabled = false;
 		guessMethodArguments = false;
 		javaFormatComments = true;
 		hashCodeEqualsTemplateUseJava7Objects = false;
@@ -822,6 +831,9 @@ public class Preferences {
 		boolean selectionRangeEnabled = getBoolean(configuration, SELECTIONRANGE_ENABLED_KEY, true);
 		prefs.setSelectionRangeEnabled(selectionRangeEnabled);
 
+		boolean precomputeDocumentViewsEnabled = getBoolean(configuration, PRECOMPUTE_DOCUMENT_VIEWS_ENABLED_KEY, false);
+		prefs.setPrecomputeDocumentViewsEnabled(precomputeDocumentViewsEnabled);
+
 		boolean guessMethodArguments = getBoolean(configuration, JAVA_COMPLETION_GUESS_METHOD_ARGUMENTS_KEY, false);
 		prefs.setGuessMethodArguments(guessMethodArguments);
 
@@ -1181,6 +1193,11 @@ public class Preferences {
 		return this;
 	}
 
+	public Preferences setPrecomputeDocumentViewsEnabled(boolean enabled) {
+		this.precomputeDocumentViewsEnabled = enabled;
+		return this;
+	}
+
 	public Preferences setGuessMethodArguments(boolean guessMethodArguments) {
 		this.guessMethodArguments = guessMethodArguments;
 		return this;
@@ -1459,6 +1476,10 @@ public class Preferences {
 		return selectionRangeEnabled;
 	}
 
+	public boolean isPrecomputeDocumentViewsEnabled() {
+		return precomputeDocumentViewsEnabled;
+	}
+
 	public boolean isGuessMethodArguments() {
 		return guessMethodArguments;
 	}
@@ -27,11 +27,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.runtime.CoreException;
@@ -72,9 +72,9 @@ public class WrapperValidator {
 	private static final String WRAPPER_CHECKSUM_URL = "wrapperChecksumUrl";
 	private static final String GRADLE_WRAPPER_JAR = "gradle/wrapper/gradle-wrapper.jar";
 
-	private static Set<String> allowed = new HashSet<>();
-	private static Set<String> disallowed = new HashSet<>();
-	private static Set<String> wrapperChecksumUrls = new HashSet<>();
+	private static Set<String> allowed = ConcurrentHashMap.newKeySet();
+	private static Set<String> disallowed = ConcurrentHashMap.newKeySet();
+	private static Set<String> wrapperChecksumUrls = ConcurrentHashMap.newKeySet();
 	private static AtomicBoolean downloaded = new AtomicBoolean(false);
 	private HashProvider hashProvider;
 	private int queueLength;
@@ -94,82 +94,87 @@ public class WrapperValidator {
 			throw ExceptionFactory.newException(wrapperJar.toString() + " doesn't exist.");
 		}
 		if (!downloaded.get() || allowed.isEmpty()) {
-			loadInternalChecksums();
-			File versionFile = getVersionCacheFile();
-			if (!versionFile.exists()) {
-				JobHelpers.waitForLoadingGradleVersionJob();
-			}
-			if (versionFile.exists()) {
-				InputStreamReader reader = null;
-				try {
-					reader = new InputStreamReader(new FileInputStream(versionFile), Charsets.UTF_8);
-					String json = CharStreams.toString(reader);
-					Gson gson = new GsonBuilder().create();
-					TypeToken<List<Map<String, String>>> typeToken = new TypeToken<>() {
-					};
-					List<Map<String, String>> versions = gson.fromJson(json, typeToken.getType());
-					//@formatter:off
-					ImmutableList<String> urls = FluentIterable
-						.from(versions)
-						.filter(new Predicate<Map<String, String>>() {
-							@Override
-							public boolean apply(Map<String, String> input) {
-								return input.get(WRAPPER_CHECKSUM_URL) != null;
-							}
-						})
-						.transform(new Function<Map<String, String>, String>() {
-							@Override
-							public String apply(Map<String, String> input) {
-								return input.get(WRAPPER_CHECKSUM_URL);
-							}
-						})
-					.toList();
-					// @formatter:on
-					DownloadChecksumJob downloadJob = new DownloadChecksumJob();
-					int count = 0;
-					File cacheDir = getSha256CacheFile();
-					for (String wrapperChecksumUrl : urls) {
+			// the checksums are loaded and downloaded once, by the first validation
+			synchronized (WrapperValidator.class) {
+				if (!downloaded.get() || allowed.isEmpty()) {
+					loadInternalChecksums();
+					File versionFile = getVersionCacheFile();
+					if (!versionFile.exists()) {
+						JobHelpers.waitForLoadingGradleVersionJob();
+					}
+					if (versionFile.exists()) {
+						InputStreamReader reader = null;
 						try {
-							if (WrapperValidator.wrapperChecksumUrls.contains(wrapperChecksumUrl)) {
-								continue;
+							reader = new InputStreamReader(new FileInputStream(versionFile), Charsets.UTF_8);
+							String json = CharStreams.toString(reader);
+							Gson gson = new GsonBuilder().create();
+							TypeToken<List<Map<String, String>>> typeToken = new TypeToken<>() {
+							};
+							List<Map<String, String>> versions = gson.fromJson(json, typeToken.getType());
+							//@formatter:off
+							ImmutableList<String> urls = FluentIterable
+								.from(versions)
+								.filter(new Predicate<Map<String, String>>() {
+									@Override
+									public boolean apply(Map<String, String> input) {
+										return input.get(WRAPPER_CHECKSUM_URL) != null;
+									}
+								})
+								.transform(new Function<Map<String, String>, String>() {
+									@Override
+									public String apply(Map<String, String> input) {
+										return input.get(WRAPPER_CHECKSUM_URL);
+									}
+								})
+							.toList();
+							// @formatter:on
+							DownloadChecksumJob downloadJob = new DownloadChecksumJob();
+							int count = 0;
+							File cacheDir = getSha256CacheFile();
+							for (String wrapperChecksumUrl : urls) {
+								try {
+									if (WrapperValidator.wrapperChecksumUrls.contains(wrapperChecksumUrl)) {
+										continue;
+									}
+									String fileName = getFileName(wrapperChecksumUrl);
+									if (fileName == null) {
+										continue;
+									}
+									File sha256File = new File(cacheDir, fileName);
+									if (!sha256File.exists() || sha256File.lastModified() < versionFile.lastModified()) {
+										count++;
+										if (count > queueLength) {
+											downloadJob.schedule();
+											downloadJob = new DownloadChecksumJob();
+											count = 0;
+										}
+										downloadJob.add(wrapperChecksumUrl);
+									} else {
+										String sha256 = read(sha256File);
+										allowed.add(sha256);
+									}
+								} catch (Exception e) {
+									JavaLanguageServerPlugin.logException(e.getMessage(), e);
+								}
 							}
-							String fileName = getFileName(wrapperChecksumUrl);
-							if (fileName == null) {
-								continue;
+							if (!downloadJob.isEmpty()) {
+								downloadJob.schedule();
 							}
-							File sha256File = new File(cacheDir, fileName);
-							if (!sha256File.exists() || sha256File.lastModified() < versionFile.lastModified()) {
-								count++;
-								if (count > queueLength) {
-									downloadJob.schedule();
-									downloadJob = new DownloadChecksumJob();
-									count = 0;
-								}
-								downloadJob.add(wrapperChecksumUrl);
-							} else {
-								String sha256 = read(sha256File);
-								allowed.add(sha256);
+							JobHelpers.waitForJobs(DownloadChecksumJob.WRAPPER_VALIDATOR_JOBS, new NullProgressMonitor());
+							downloaded.set(true);
+						} catch (IOException | OperationCanceledException e) {
+							throw ExceptionFactory.newException(e);
+						} finally {
+							try {
+								Closeables.close(reader, false);
+							} catch (IOException e) {
+								// ignore
 							}
-						} catch (Exception e) {
-							JavaLanguageServerPlugin.logException(e.getMessage(), e);
 						}
-					}
-					if (!downloadJob.isEmpty()) {
-						downloadJob.schedule();
-					}
-					JobHelpers.waitForJobs(DownloadChecksumJob.WRAPPER_VALIDATOR_JOBS, new NullProgressMonitor());
-					downloaded.set(true);
-				} catch (IOException | OperationCanceledException e) {
-					throw ExceptionFactory.newException(e);
-				} finally {
-					try {
-						Closeables.close(reader, false);
-					} catch (IOException e) {
-						// ignore
+					} else {
+						updateGradleVersionsFile();
 					}
 				}
-			} else {
-				updateGradleVersionsFile();
 			}
 		}
 		try {
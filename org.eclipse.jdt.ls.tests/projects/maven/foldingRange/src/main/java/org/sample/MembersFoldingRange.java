@@ -0,0 +1,44 @@
+package org.sample;
+
+import java.util.function.Supplier;
+
+@SuppressWarnings({
+		"unused" })
+public class MembersFoldingRange {
+
+	private Runnable runnable = new Runnable() {
+		@Override
+		public void run() {
+		}
+	};
+
+	static {
+		System.out.println();
+	}
+
+	@Deprecated
+	@SuppressWarnings(value = { "rawtypes",
+			"unchecked" })
+	Supplier<String> foo(
+			String bar) {
+		return () -> {
+			return bar;
+		};
+	}
+
+	enum Kind {
+		A {
+			@Override
+			void bar() {
+			}
+		},
+		B;
+
+		void bar() {
+		}
+	}
+
+	interface Foo {
+		void foo();
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.CoreASTProvider;
+import org.eclipse.jdt.ls.core.internal.managers.AbstractProjectsManagerBasedTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SharedASTCacheTest extends AbstractProjectsManagerBasedTest {
+
+	private ICompilationUnit unit;
+
+	@Before
+	public void setup() throws Exception {
+		importProjects(Arrays.asList("eclipse/hello"));
+		IJavaProject javaProject = JavaCore.create(WorkspaceHelper.getProject("hello"));
+		unit = javaProject.findType("org.sample.Highlight").getCompilationUnit();
+		SharedASTCache.getInstance().clear();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (unit.isWorkingCopy()) {
+			unit.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void testCachedAST() throws Exception {
+		SharedASTCache cache = SharedASTCache.getInstance();
+		long parseCount = cache.getParseCount();
+		CompilationUnit ast = cache.getAST(unit, new NullProgressMonitor());
+		assertNotNull(ast);
+		assertTrue(ast.getAST().hasResolvedBindings());
+		assertSame(ast, cache.getAST(unit, new NullProgressMonitor()));
+		assertEquals(parseCount + 1, cache.getParseCount());
+
+		// other parse flags have their own entry
+		CompilationUnit syntaxOnly = cache.getAST(unit, SharedASTCache.STATEMENTS_RECOVERY, new NullProgressMonitor());
+		assertNotSame(ast, syntaxOnly);
+		assertFalse(syntaxOnly.getAST().hasResolvedBindings());
+		assertEquals(parseCount + 2, cache.getParseCount());
+	}
+
+	@Test
+	public void testSourceChange() throws Exception {
+		SharedASTCache cache = SharedASTCache.getInstance();
+		unit.becomeWorkingCopy(new NullProgressMonitor());
+		CompilationUnit ast = cache.getAST(unit, SharedASTCache.STATEMENTS_RECOVERY, new NullProgressMonitor());
+		assertNotNull(ast);
+
+		unit.getBuffer().append("\n// changed\n");
+		CompilationUnit newAST = cache.getAST(unit, SharedASTCache.STATEMENTS_RECOVERY, new NullProgressMonitor());
+		assertNotSame(ast, newAST);
+		assertEquals(unit.getSource().length(), newAST.getLength());
+	}
+
+	@Test
+	public void testConcurrentRequests() throws Exception {
+		SharedASTCache cache = SharedASTCache.getInstance();
+		long parseCount = cache.getParseCount();
+		CompletableFuture<CompilationUnit> first = CompletableFuture.supplyAsync(() -> cache.getAST(unit, SharedASTCache.STATEMENTS_RECOVERY, new NullProgressMonitor()));
+		CompletableFuture<CompilationUnit> second = CompletableFuture.supplyAsync(() -> cache.getAST(unit, SharedASTCache.STATEMENTS_RECOVERY, new NullProgressMonitor()));
+		assertSame(first.get(), second.get());
+		assertEquals(parseCount + 1, cache.getParseCount());
+	}
+
+	@Test
+	public void testActiveElement() throws Exception {
+		SharedASTCache cache = SharedASTCache.getInstance();
+		CoreASTProvider sharedASTProvider = CoreASTProvider.getInstance();
+		unit.becomeWorkingCopy(new NullProgressMonitor());
+		sharedASTProvider.disposeAST();
+		sharedASTProvider.setActiveJavaElement(unit);
+		try {
+			long parseCount = cache.getParseCount();
+			CompilationUnit ast = cache.getAST(unit, new NullProgressMonitor());
+			assertNotNull(ast);
+			// shared with the reconciler, not parsed by the cache
+			assertSame(ast, sharedASTProvider.getAST(unit, CoreASTProvider.WAIT_NO, null));
+			assertEquals(parseCount, cache.getParseCount());
+		} finally {
+			sharedASTProvider.disposeAST();
+			sharedASTProvider.setActiveJavaElement(null);
+		}
+	}
+
+	@Test
+	public void testCancelled() throws Exception {
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		assertNull(SharedASTCache.getInstance().getAST(unit, monitor));
+	}
+}
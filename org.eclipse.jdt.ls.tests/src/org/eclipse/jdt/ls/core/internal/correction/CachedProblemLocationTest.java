@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.correction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.jdt.core.IJavaModelMarker;
+import org.eclipse.jdt.core.compiler.IProblem;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.ls.core.internal.corrections.CachedProblemLocation;
+import org.junit.Test;
+
+public class CachedProblemLocationTest {
+
+	private static final String SOURCE = "public class E {\n    void foo() {\n        bar();\n    }\n}\n";
+
+	@Test
+	public void testCoveringNode() throws Exception {
+		int offset = SOURCE.indexOf("bar");
+		CachedProblemLocation location = new CachedProblemLocation(offset, 3, IProblem.UndefinedMethod, new String[0], true, IJavaModelMarker.JAVA_MODEL_PROBLEM_MARKER);
+		CompilationUnit astRoot = parse();
+		ASTNode node = location.getCoveringNode(astRoot);
+		assertEquals(ASTNode.SIMPLE_NAME, node.getNodeType());
+		assertEquals("bar", ((SimpleName) node).getIdentifier());
+		assertSame(node, location.getCoveringNode(astRoot));
+		assertSame(node, location.getCoveredNode(astRoot));
+
+		ASTNode otherNode = location.getCoveringNode(parse());
+		assertNotSame(node, otherNode);
+		assertEquals(node.getStartPosition(), otherNode.getStartPosition());
+	}
+
+	private static CompilationUnit parse() {
+		ASTParser parser = ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setSource(SOURCE.toCharArray());
+		return (CompilationUnit) parser.createAST(null);
+	}
+}
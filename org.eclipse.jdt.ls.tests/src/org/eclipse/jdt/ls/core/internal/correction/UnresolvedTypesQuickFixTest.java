@@ -30,6 +30,10 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.ls.core.internal.JavaProjectHelper;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.Command;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -1403,6 +1407,29 @@ public class UnresolvedTypesQuickFixTest extends AbstractQuickFixTest {
 		assertCodeActionNotExists(cu1, "Import 'Tests' (pt)");
 	}
 
+	@Test
+	public void testImportNewType() throws Exception {
+		IPackageFragment pack1 = fSourceFolder.createPackageFragment("test1", false, null);
+		StringBuilder buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E {\n");
+		buf.append("    Vectr v;\n");
+		buf.append("}\n");
+		ICompilationUnit cu = pack1.createCompilationUnit("E.java", buf.toString(), false, null);
+		assertCodeActionNotExists(cu, "Import 'Vectr' (test2)");
+
+		// the similar types of the unchanged unit are refreshed
+		IPackageFragment pack2 = fSourceFolder.createPackageFragment("test2", false, null);
+		buf = new StringBuilder();
+		buf.append("package test2;\n");
+		buf.append("public class Vectr {\n");
+		buf.append("}\n");
+		pack2.createCompilationUnit("Vectr.java", buf.toString(), false, null);
+
+		List<Either<Command, CodeAction>> codeActions = evaluateCodeActions(cu);
+		Assert.assertTrue(codeActions.stream().anyMatch(codeAction -> "Import 'Vectr' (test2)".equals(getTitle(codeAction))));
+	}
+
 	@Test
 	public void testTypeInSealedTypeDeclaration() throws Exception {
 		Map<String, String> options16 = new HashMap<>();
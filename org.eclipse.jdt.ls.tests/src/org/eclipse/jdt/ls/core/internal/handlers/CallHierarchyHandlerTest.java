@@ -17,14 +17,19 @@ import static org.eclipse.lsp4j.SymbolKind.Constructor;
 import static org.eclipse.lsp4j.SymbolKind.Field;
 import static org.eclipse.lsp4j.SymbolKind.Method;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.ls.core.internal.ClassFileUtil;
 import org.eclipse.jdt.ls.core.internal.WorkspaceHelper;
@@ -96,9 +101,97 @@ public class CallHierarchyHandlerTest extends AbstractProjectsManagerBasedTest {
 		List<CallHierarchyIncomingCall> calls = getIncomingCalls(items.get(0));
 		assertNotNull(calls);
 		assertEquals(3, calls.size());
-		assertItem(calls.get(0).getFrom(), "Child()", Constructor, "org.sample.CallHierarchy$Child", false, 42);
-		assertItem(calls.get(1).getFrom(), "main(String[])" + JavaElementLabels.DECL_STRING + "void", Method, "org.sample.CallHierarchy", true, 5);
-		assertItem(calls.get(2).getFrom(), "method_1()" + JavaElementLabels.DECL_STRING + "void", Method, "org.sample.CallHierarchy$Base", false, 33);
+		// in the order of the calls
+		assertItem(calls.get(0).getFrom(), "main(String[])" + JavaElementLabels.DECL_STRING + "void", Method, "org.sample.CallHierarchy", true, 5);
+		assertItem(calls.get(1).getFrom(), "method_1()" + JavaElementLabels.DECL_STRING + "void", Method, "org.sample.CallHierarchy$Base", false, 33);
+		assertItem(calls.get(2).getFrom(), "Child()", Constructor, "org.sample.CallHierarchy$Child", false, 42);
+	}
+
+	@Test
+	public void incomingCalls_type() throws Exception {
+		createInitializedUnit();
+		// Line 2 from `Initialized`
+		//public class In<|>itialized {
+		String uri = getUriFromSrcProject("org.sample.Initialized");
+		List<CallHierarchyItem> items = prepareCallHierarchy(uri, 1, 15);
+		assertNotNull(items);
+		assertEquals(1, items.size());
+		assertItem(items.get(0), "Initialized", Class, "org.sample.Initialized", false, 1);
+
+		// the callers of a type invoke its constructors
+		List<String> callers = getCallerNames(getIncomingCalls(items.get(0)));
+		assertTrue(callers.toString(), callers.contains("use()" + JavaElementLabels.DECL_STRING + "void"));
+		assertFalse(callers.toString(), callers.contains("get()" + JavaElementLabels.DECL_STRING + "Initialized"));
+	}
+
+	@Test
+	public void incomingCalls_initializer() throws Exception {
+		createInitializedUnit();
+		// Line 9 from `Initialized`
+		//    /*initia<|>lizer*/
+		String uri = getUriFromSrcProject("org.sample.Initialized");
+		List<CallHierarchyItem> items = prepareCallHierarchy(uri, 8, 10);
+		assertNotNull(items);
+		assertEquals(1, items.size());
+		assertEquals("{...}", items.get(0).getName());
+
+		// the callers of an initializer invoke the constructors of its type
+		List<String> callers = getCallerNames(getIncomingCalls(items.get(0)));
+		assertTrue(callers.toString(), callers.contains("use()" + JavaElementLabels.DECL_STRING + "void"));
+		assertFalse(callers.toString(), callers.contains("get()" + JavaElementLabels.DECL_STRING + "Initialized"));
+	}
+
+	private static void createInitializedUnit() throws Exception {
+		IPackageFragment pack = JavaCore.create(WorkspaceHelper.getProject("hello")).findType("org.sample.CallHierarchy").getPackageFragment();
+		//@formatter:off
+		pack.createCompilationUnit("Initialized.java", "package org.sample;\n" +
+				"public class Initialized {\n" +
+				"  static Runnable RUNNER = new Runnable() {\n" +
+				"    public void run() {\n" +
+				"      new Initialized();\n" +
+				"    }\n" +
+				"  };\n" +
+				"  {\n" +
+				"    /*initializer*/\n" +
+				"  }\n" +
+				"  Initialized get() {\n" +
+				"    return null;\n" +
+				"  }\n" +
+				"  void use() {\n" +
+				"    new Initialized();\n" +
+				"  }\n" +
+				"}\n", true, null);
+		//@formatter:on
+	}
+
+	private static List<String> getCallerNames(List<CallHierarchyIncomingCall> calls) {
+		assertNotNull(calls);
+		return calls.stream().map(call -> call.getFrom().getName()).collect(Collectors.toList());
+	}
+
+	@Test
+	public void incomingCalls_cached() throws Exception {
+		// Line 27 from `CallHierarchy`
+		//    public void <|>bar() {
+		String uri = getUriFromSrcProject("org.sample.CallHierarchy");
+		List<CallHierarchyItem> items = prepareCallHierarchy(uri, 26, 16);
+		assertNotNull(items);
+		assertEquals(1, items.size());
+
+		List<CallHierarchyIncomingCall> calls = getIncomingCalls(items.get(0));
+		assertNotNull(calls);
+		assertEquals(3, calls.size());
+		assertSame(calls.get(0), getIncomingCalls(items.get(0)).get(0));
+
+		// a unit not referencing bar() leaves the calls cached
+		IPackageFragment pack = JavaCore.create(WorkspaceHelper.getProject("hello")).findType("org.sample.CallHierarchy").getPackageFragment();
+		pack.createCompilationUnit("Unrelated.java", "package org.sample;\npublic class Unrelated {\n}\n", true, null);
+		assertSame(calls.get(0), getIncomingCalls(items.get(0)).get(0));
+
+		pack.createCompilationUnit("Caller.java", "package org.sample;\npublic class Caller {\n  void call() {\n    new CallHierarchy.Base().bar();\n  }\n}\n", true, null);
+		List<CallHierarchyIncomingCall> newCalls = getIncomingCalls(items.get(0));
+		assertNotNull(newCalls);
+		assertEquals(4, newCalls.size());
 	}
 
 	@Test
@@ -119,6 +119,50 @@ public class CodeActionHandlerTest extends AbstractCompilationUnitBasedTest {
 		Assert.assertEquals(CodeActionHandler.COMMAND_ID_APPLY_EDIT, c.getCommand());
 	}
 
+	@Test
+	public void testCodeAction_repeatedRequest() throws Exception {
+		ICompilationUnit unit = getWorkingCopy(
+				"src/java/Foo.java",
+				"import java.sql.*; \n" +
+						"public class Foo {\n"+
+						"	void foo() {\n"+
+						"	}\n"+
+				"}\n");
+
+		CodeActionParams params = new CodeActionParams();
+		params.setTextDocument(new TextDocumentIdentifier(JDTUtils.toURI(unit)));
+		final Range range = CodeActionUtil.getRange(unit, "java.sql");
+		params.setRange(range);
+		params.setContext(new CodeActionContext(Arrays.asList(getDiagnostic(Integer.toString(IProblem.UnusedImport), range))));
+		List<Either<Command, CodeAction>> codeActions = getCodeActions(params);
+		Assert.assertFalse(codeActions.isEmpty());
+		Map<String, Object> formattingOptions = ConfigurationHandler.getFormattingOptions(params.getTextDocument().getUri());
+		Assert.assertNotNull(CodeActionCache.getInstance().get(params, unit.getSource(), preferenceManager, formattingOptions));
+		List<Either<Command, CodeAction>> repeatedActions = getCodeActions(params);
+		Assert.assertEquals(codeActions.size(), repeatedActions.size());
+		for (int i = 0; i < codeActions.size(); i++) {
+			CodeAction codeAction = codeActions.get(i).getRight();
+			CodeAction repeatedAction = repeatedActions.get(i).getRight();
+			Assert.assertNotSame(codeAction, repeatedAction);
+			Assert.assertEquals(codeAction.getTitle(), repeatedAction.getTitle());
+			Assert.assertEquals(codeAction.getKind(), repeatedAction.getKind());
+			// the processors didn't run again, the commands are the cached ones
+			Assert.assertSame(codeAction.getCommand(), repeatedAction.getCommand());
+		}
+
+		unit.getBuffer().setContents("public class Foo {\n" +
+				"	void foo() {\n" +
+				"	}\n" +
+				"}\n");
+		params.setRange(CodeActionUtil.getRange(unit, "foo()"));
+		params.setContext(new CodeActionContext(Collections.emptyList(), Collections.singletonList(CodeActionKind.Source)));
+		List<Either<Command, CodeAction>> sourceActions = getCodeActions(params);
+		Assert.assertFalse(sourceActions.isEmpty());
+		for (Either<Command, CodeAction> codeAction : sourceActions) {
+			Assert.assertTrue(codeAction.getRight().getKind().startsWith(CodeActionKind.Source));
+		}
+	}
+
 	@Test
 	public void testCodeAction_sourceActionsOnly() throws Exception {
 		//@formatter:off
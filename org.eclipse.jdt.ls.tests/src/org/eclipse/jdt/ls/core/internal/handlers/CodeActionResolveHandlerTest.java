@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
@@ -42,6 +43,7 @@ import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkspaceEdit;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.junit.Assert;
 import org.junit.Before;
@@ -112,6 +114,82 @@ public class CodeActionResolveHandlerTest extends AbstractCompilationUnitBasedTe
 		Assert.assertEquals(buf.toString(), actual);
 	}
 
+	@Test
+	public void testDeferredCodeActionCommand() throws Exception {
+		when(preferenceManager.getClientPreferences().isWorkspaceApplyEditSupported()).thenReturn(true);
+
+		StringBuilder buf = new StringBuilder();
+		buf.append("public class Foo {\n");
+		buf.append("    void foo() {\n");
+		buf.append("        String bar = \"astring\";");
+		buf.append("    }\n");
+		buf.append("}\n");
+		ICompilationUnit unit = defaultPackage.createCompilationUnit("Foo.java", buf.toString(), false, null);
+		CodeActionParams params = new CodeActionParams();
+		params.setTextDocument(new TextDocumentIdentifier(JDTUtils.toURI(unit)));
+		final Range range = CodeActionUtil.getRange(unit, "bar");
+		params.setRange(range);
+		CodeActionContext context = new CodeActionContext(
+			Arrays.asList(getDiagnostic(Integer.toString(IProblem.LocalVariableIsNeverUsed), range)),
+			Collections.singletonList(CodeActionKind.QuickFix)
+		);
+		params.setContext(context);
+
+		List<Either<Command, CodeAction>> quickfixActions = server.codeAction(params).join();
+		Optional<Either<Command, CodeAction>> removeUnusedResponse = quickfixActions.stream().filter(codeAction -> {
+			return "Remove 'bar' and all assignments".equals(codeAction.getRight().getTitle());
+		}).findFirst();
+		Assert.assertTrue("Should return the quickfix \"Remove 'bar' and all assignments\"", removeUnusedResponse.isPresent());
+		Command command = removeUnusedResponse.get().getRight().getCommand();
+		Assert.assertEquals("Should defer the edit to the command execution", CodeActionHandler.COMMAND_ID_APPLY_CODE_ACTION, command.getCommand());
+		Assert.assertEquals(2, command.getArguments().size());
+
+		WorkspaceEdit edit = CodeActionResolveHandler.resolveEdit(command.getArguments(), null);
+		String actual = AbstractQuickFixTest.evaluateWorkspaceEdit(edit);
+		buf = new StringBuilder();
+		buf.append("public class Foo {\n");
+		buf.append("    void foo() {    }\n");
+		buf.append("}\n");
+		Assert.assertEquals(buf.toString(), actual);
+	}
+
+	@Test
+	public void testDeferredCodeActionCommand_evicted() throws Exception {
+		when(preferenceManager.getClientPreferences().isWorkspaceApplyEditSupported()).thenReturn(true);
+
+		StringBuilder buf = new StringBuilder();
+		buf.append("public class Foo {\n");
+		buf.append("    void foo() {\n");
+		buf.append("        String bar = \"astring\";");
+		buf.append("    }\n");
+		buf.append("}\n");
+		ICompilationUnit unit = defaultPackage.createCompilationUnit("Foo.java", buf.toString(), false, null);
+		CodeActionParams params = new CodeActionParams();
+		params.setTextDocument(new TextDocumentIdentifier(JDTUtils.toURI(unit)));
+		final Range range = CodeActionUtil.getRange(unit, "bar");
+		params.setRange(range);
+		CodeActionContext context = new CodeActionContext(
+			Arrays.asList(getDiagnostic(Integer.toString(IProblem.LocalVariableIsNeverUsed), range)),
+			Collections.singletonList(CodeActionKind.QuickFix)
+		);
+		params.setContext(context);
+
+		List<Either<Command, CodeAction>> quickfixActions = server.codeAction(params).join();
+		Assert.assertFalse(quickfixActions.isEmpty());
+		Command command = quickfixActions.get(0).getRight().getCommand();
+		Assert.assertEquals(CodeActionHandler.COMMAND_ID_APPLY_CODE_ACTION, command.getCommand());
+
+		// the proposals of the next requests don't evict it from the store
+		for (int i = 0; i <= ForkJoinPool.commonPool().getParallelism(); i++) {
+			server.codeAction(params).join();
+		}
+		Assert.assertNotNull(CodeActionResolveHandler.resolveEdit(command.getArguments(), null));
+
+		// the proposals of older requests are evicted from the store
+		CodeActionHandler.deferredProposalStore.clear();
+		Assert.assertNull(CodeActionResolveHandler.resolveEdit(command.getArguments(), null));
+	}
+
 	@Test
 	public void testResolveCodeAction_Refactors() throws Exception {
 		when(preferenceManager.getClientPreferences().isResolveCodeActionSupported()).thenReturn(true);
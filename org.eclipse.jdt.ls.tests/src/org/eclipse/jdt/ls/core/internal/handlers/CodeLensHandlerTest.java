@@ -27,7 +27,11 @@ import java.net.URI;
 import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.ls.core.internal.ClassFileUtil;
 import org.eclipse.jdt.ls.core.internal.ResourceUtils;
 import org.eclipse.jdt.ls.core.internal.WorkspaceHelper;
@@ -336,6 +340,88 @@ public class CodeLensHandlerTest extends AbstractProjectsManagerBasedTest {
 		assertRange(5, 25, 28, loc.getRange());
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testResolveAllCodeLenses() {
+		String source = "src/java/Foo.java";
+		CodeLens typeLens = handler.resolve(getParams(createCodeLensRequest(source, 5, 13, 16)), monitor);
+		assertEquals("1 reference", typeLens.getCommand().getTitle());
+
+		// served by the search of the type lens
+		CodeLens methodLens = handler.resolve(getParams(createCodeLensRequest(source, 15, 13, 16)), monitor);
+		assertEquals("1 reference", methodLens.getCommand().getTitle());
+		List<Location> locations = (List<Location>) methodLens.getCommand().getArguments().get(2);
+		assertEquals(1, locations.size());
+		Location loc = locations.get(0);
+		assertTrue(loc.getUri().endsWith("src/java/Bar.java"));
+		assertEquals(23, loc.getRange().getStart().getLine());
+		assertEquals(12, loc.getRange().getStart().getCharacter());
+
+		CodeLens mainLens = handler.resolve(getParams(createCodeLensRequest(source, 7, 20, 24)), monitor);
+		assertEquals("0 references", mainLens.getCommand().getTitle());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testResolveConstructorCodeLens() throws Exception {
+		IPackageFragment pack = JavaCore.create(project).findType("java.Foo").getPackageFragment();
+		pack.createCompilationUnit("Built.java", "package java;\npublic class Built {\n\tpublic Built() {\n\t}\n\tpublic void run() {\n\t}\n}\n", true, monitor);
+		pack.createCompilationUnit("BuiltUser.java", "package java;\npublic class BuiltUser {\n\tvoid use() {\n\t\tnew Built().run();\n\t}\n}\n", true, monitor);
+		String source = "src/java/Built.java";
+
+		CodeLens constructorLens = handler.resolve(getParams(createCodeLensRequest(source, 2, 8, 13)), monitor);
+		assertEquals("1 reference", constructorLens.getCommand().getTitle());
+		List<Location> locations = (List<Location>) constructorLens.getCommand().getArguments().get(2);
+		assertEquals(1, locations.size());
+		assertTrue(locations.get(0).getUri().endsWith("src/java/BuiltUser.java"));
+		assertEquals(3, locations.get(0).getRange().getStart().getLine());
+
+		// served by the search of the constructor lens
+		CodeLens typeLens = handler.resolve(getParams(createCodeLensRequest(source, 1, 13, 18)), monitor);
+		assertEquals("1 reference", typeLens.getCommand().getTitle());
+		CodeLens methodLens = handler.resolve(getParams(createCodeLensRequest(source, 4, 13, 16)), monitor);
+		assertEquals("1 reference", methodLens.getCommand().getTitle());
+	}
+
+	@Test
+	public void testUpdateCodeLensReferences() throws Exception {
+		String source = "src/java/Foo.java";
+		CodeLens methodLens = handler.resolve(getParams(createCodeLensRequest(source, 15, 13, 16)), monitor);
+		assertEquals("1 reference", methodLens.getCommand().getTitle());
+
+		ICompilationUnit bar = JavaCore.createCompilationUnitFrom(project.getFile("src/java/Bar.java"));
+		bar.becomeWorkingCopy(monitor);
+		try {
+			String contents = bar.getSource();
+			int offset = contents.indexOf("super.foo(\"lombok\");");
+			bar.getBuffer().replace(offset, 0, "super.foo(\"again\");\n      ");
+			bar.reconcile(ICompilationUnit.NO_AST, false, null, monitor);
+
+			// only the references of the edited unit are searched again
+			methodLens = handler.resolve(getParams(createCodeLensRequest(source, 15, 13, 16)), monitor);
+			assertEquals("2 references", methodLens.getCommand().getTitle());
+		} finally {
+			bar.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void testUpdateCodeLensReferencesOnSave() throws Exception {
+		String source = "src/java/Foo.java";
+		CodeLens methodLens = handler.resolve(getParams(createCodeLensRequest(source, 15, 13, 16)), monitor);
+		assertEquals("1 reference", methodLens.getCommand().getTitle());
+
+		// the file is changed outside of a working copy, the delta is not fine-grained
+		IFile bar = project.getFile("src/java/Bar.java");
+		String contents = ResourceUtils.getContent(bar);
+		int offset = contents.indexOf("super.foo(\"lombok\");");
+		ResourceUtils.setContent(bar, contents.substring(0, offset) + "super.foo(\"again\");\n      " + contents.substring(offset));
+		waitForBackgroundJobs();
+
+		methodLens = handler.resolve(getParams(createCodeLensRequest(source, 15, 13, 16)), monitor);
+		assertEquals("2 references", methodLens.getCommand().getTitle());
+	}
+
 	@Test
 	public void testResolveCodeLenseBoundaries() {
 		CodeLens result = handler.resolve(null, monitor);
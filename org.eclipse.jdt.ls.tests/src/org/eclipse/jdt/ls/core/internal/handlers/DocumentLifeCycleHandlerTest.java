@@ -16,6 +16,7 @@ import static org.eclipse.jdt.ls.core.internal.Lsp4jAssertions.assertRange;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -48,6 +49,7 @@ import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaClientConnection;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.jdt.ls.core.internal.JobHelpers;
 import org.eclipse.jdt.ls.core.internal.ProjectUtils;
 import org.eclipse.jdt.ls.core.internal.ResourceUtils;
 import org.eclipse.jdt.ls.core.internal.WorkspaceHelper;
@@ -65,6 +67,7 @@ import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.DidSaveTextDocumentParams;
+import org.eclipse.lsp4j.FoldingRange;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
@@ -784,6 +787,84 @@ public class DocumentLifeCycleHandlerTest extends AbstractProjectsManagerBasedTe
 		assertNewASTsCreated(0);
 	}
 
+	@Test
+	public void testPrecomputedDocumentViews() throws Exception {
+		when(preferenceManager.getPreferences().isPrecomputeDocumentViewsEnabled()).thenReturn(true);
+		IJavaProject javaProject = newEmptyProject();
+		IPackageFragmentRoot sourceFolder = javaProject.getPackageFragmentRoot(javaProject.getProject().getFolder("src"));
+		IPackageFragment pack1 = sourceFolder.createPackageFragment("test1", false, null);
+
+		StringBuilder buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E123 {\n");
+		buf.append("    public boolean foo() {\n");
+		buf.append("        return true;\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		ICompilationUnit cu1 = pack1.createCompilationUnit("E123.java", buf.toString(), false, null);
+		PrecomputedDocumentViews views = PrecomputedDocumentViews.getInstance();
+
+		openDocument(cu1, cu1.getSource(), 1);
+		JobHelpers.waitForJobs(PrecomputedDocumentViews.PRECOMPUTE_JOBS, monitor);
+
+		List<FoldingRange> foldingRanges = views.getFoldingRanges(cu1);
+		assertNotNull(foldingRanges);
+		assertEquals(new FoldingRangeHandler().foldingRange(cu1, monitor), foldingRanges);
+		assertNotNull(views.getSemanticTokens(cu1));
+		assertNotNull(new DocumentSymbolHandler(false).getCachedOutline(cu1, cu1.getSource()));
+		// computed for clients without hierarchical symbols support
+		assertNull(new DocumentSymbolHandler(true).getCachedOutline(cu1, cu1.getSource()));
+
+		buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E123 {\n");
+		buf.append("    /**\n");
+		buf.append("     * Foo\n");
+		buf.append("     */\n");
+		buf.append("    public boolean foo() {\n");
+		buf.append("        return true;\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		changeDocumentFull(cu1, buf.toString(), 2);
+		JobHelpers.waitForJobs(PrecomputedDocumentViews.PRECOMPUTE_JOBS, monitor);
+
+		List<FoldingRange> newFoldingRanges = views.getFoldingRanges(cu1);
+		assertNotNull(newFoldingRanges);
+		assertEquals(new FoldingRangeHandler().foldingRange(cu1, monitor), newFoldingRanges);
+		assertEquals(foldingRanges.size() + 1, newFoldingRanges.size());
+
+		views.cancel(cu1);
+		assertNull(views.getFoldingRanges(cu1));
+		closeDocument(cu1);
+	}
+
+	@Test
+	public void testPrecomputedDocumentViewsDiscardedOnChange() throws Exception {
+		when(preferenceManager.getPreferences().isPrecomputeDocumentViewsEnabled()).thenReturn(true);
+		IJavaProject javaProject = newEmptyProject();
+		IPackageFragmentRoot sourceFolder = javaProject.getPackageFragmentRoot(javaProject.getProject().getFolder("src"));
+		IPackageFragment pack1 = sourceFolder.createPackageFragment("test1", false, null);
+
+		StringBuilder buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E123 {\n");
+		buf.append("    public E456 foo() {\n");
+		buf.append("        return null;\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		ICompilationUnit cu1 = pack1.createCompilationUnit("E123.java", buf.toString(), false, null);
+		PrecomputedDocumentViews views = PrecomputedDocumentViews.getInstance();
+
+		openDocument(cu1, cu1.getSource(), 1);
+		JobHelpers.waitForJobs(PrecomputedDocumentViews.PRECOMPUTE_JOBS, monitor);
+		assertNotNull(views.getSemanticTokens(cu1));
+
+		// the semantic tokens of the unit depend on the new unit
+		pack1.createCompilationUnit("E456.java", "package test1;\npublic class E456 {\n}\n", false, null);
+		assertNull(views.getSemanticTokens(cu1));
+		closeDocument(cu1);
+	}
+
 	private File createTempFile(File parent, String fileName, String content) throws IOException {
 		parent.mkdirs();
 		File file = new File(parent, fileName);
@@ -13,7 +13,11 @@
 package org.eclipse.jdt.ls.core.internal.handlers;
 
 import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
@@ -29,6 +33,9 @@ import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.ls.core.internal.ClassFileUtil;
 import org.eclipse.jdt.ls.core.internal.WorkspaceHelper;
@@ -163,6 +170,47 @@ public class DocumentSymbolHandlerTest extends AbstractProjectsManagerBasedTest
 		assertHasHierarchicalSymbol("add(int...) : int", "bar", SymbolKind.Method, symbols);
 	}
 
+	@Test
+	public void testCachedOutline() throws Exception {
+		ICompilationUnit unit = JavaCore.create(project).findType("org.sample.Bar").getCompilationUnit();
+		DocumentSymbolParams params = new DocumentSymbolParams(new TextDocumentIdentifier(ClassFileUtil.getURI(project, "org.sample.Bar")));
+		DocumentSymbolHandler handler = new DocumentSymbolHandler(true);
+		List<Either<SymbolInformation, DocumentSymbol>> symbols = handler.documentSymbol(params, monitor);
+		assertNotNull(handler.getCachedOutline(unit, unit.getSource()));
+		assertNull(new DocumentSymbolHandler(false).getCachedOutline(unit, unit.getSource()));
+		// the cached symbols are copied
+		List<Either<SymbolInformation, DocumentSymbol>> cachedSymbols = handler.documentSymbol(params, monitor);
+		assertEquals(symbols, cachedSymbols);
+		assertNotSame(symbols.get(0).getRight(), cachedSymbols.get(0).getRight());
+		symbols.get(0).getRight().setName("Changed");
+		assertEquals(cachedSymbols, handler.documentSymbol(params, monitor));
+
+		unit.becomeWorkingCopy(monitor);
+		try {
+			String source = unit.getSource();
+			unit.getBuffer().replace(source.lastIndexOf('}'), 1, "public int baz() { return 0; }\n}");
+			List<Either<SymbolInformation, DocumentSymbol>> newSymbols = handler.documentSymbol(params, monitor);
+			assertNotSame(symbols, newSymbols);
+			List<DocumentSymbol> hierarchicalSymbols = newSymbols.stream().map(Either::getRight).collect(toList());
+			assertHasHierarchicalSymbol("baz() : int", "Bar", SymbolKind.Method, hierarchicalSymbols);
+		} finally {
+			unit.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void testCachedOutlineDiscardedOnModelChange() throws Exception {
+		ICompilationUnit unit = JavaCore.create(project).findType("org.sample.Bar").getCompilationUnit();
+		DocumentSymbolParams params = new DocumentSymbolParams(new TextDocumentIdentifier(ClassFileUtil.getURI(project, "org.sample.Bar")));
+		DocumentSymbolHandler handler = new DocumentSymbolHandler(true);
+		handler.documentSymbol(params, monitor);
+		assertNotNull(handler.getCachedOutline(unit, unit.getSource()));
+
+		// the labels may depend on the new type
+		((IPackageFragment) unit.getParent()).createCompilationUnit("Baz.java", "package org.sample;\npublic class Baz {\n}\n", false, monitor);
+		assertNull(handler.getCachedOutline(unit, unit.getSource()));
+	}
+
 	private static List<? extends DocumentSymbol> internalGetHierarchicalSymbols(IProject project, IProgressMonitor monitor, String className)
 			throws JavaModelException, UnsupportedEncodingException, InterruptedException, ExecutionException {
 		String uri = ClassFileUtil.getURI(project, className);
@@ -121,6 +121,27 @@ public class FoldingRangeHandlerTest extends AbstractProjectsManagerBasedTest {
 		assertHasFoldingRange(48, 50, null, foldingRanges);
 	}
 
+	@Test
+	public void testMemberFoldingRanges() throws Exception {
+		String className = "org.sample.MembersFoldingRange";
+		List<FoldingRange> foldingRanges = getFoldingRanges(className);
+		assertTrue(foldingRanges.size() == 8);
+		assertHasFoldingRange(2, 2, FoldingRangeKind.Imports, foldingRanges);
+		assertHasFoldingRange(6, 43, null, foldingRanges);
+
+		// Annotated method returning a lambda:
+		assertHasFoldingRange(21, 26, null, foldingRanges);
+		assertHasFoldingRange(23, 25, null, foldingRanges);
+
+		// Enum, without the body of its constant:
+		assertHasFoldingRange(28, 38, null, foldingRanges);
+		assertHasFoldingRange(36, 37, null, foldingRanges);
+
+		// Interface and abstract method:
+		assertHasFoldingRange(40, 42, null, foldingRanges);
+		assertHasFoldingRange(41, 41, null, foldingRanges);
+	}
+
 	private void testClass(String className) throws CoreException {
 		List<FoldingRange> foldingRanges = getFoldingRanges(className);
 		for (FoldingRange range : foldingRanges) {
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.ls.core.internal.JDTUtils;
+import org.eclipse.jdt.ls.core.internal.WorkspaceHelper;
+import org.eclipse.jdt.ls.core.internal.managers.AbstractProjectsManagerBasedTest;
+import org.eclipse.lsp4j.Location;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LocationConverterTest extends AbstractProjectsManagerBasedTest {
+
+	private IJavaProject project;
+
+	@Before
+	public void setup() throws Exception {
+		importProjects("eclipse/hello");
+		IProject p = WorkspaceHelper.getProject("hello");
+		project = JavaCore.create(p);
+	}
+
+	@Test
+	public void testLocations() throws Exception {
+		List<ICompilationUnit> units = getCompilationUnits();
+		assertTrue("Expected several files", units.size() > 1);
+		LocationConverter converter = new LocationConverter();
+		List<Location> locations = new ArrayList<>();
+		List<Location> expected = new ArrayList<>();
+		for (ICompilationUnit unit : units) {
+			int length = unit.getSource().length();
+			for (int offset : new int[] { 0, length / 2, length - 1 }) {
+				locations.add(converter.add(unit, offset, 1));
+				expected.add(JDTUtils.toLocation(unit, offset, 1));
+			}
+		}
+		converter.resolve(monitor);
+		assertEquals(expected, locations);
+	}
+
+	@Test
+	public void testNameLocation() throws Exception {
+		IType type = project.findType("java.Foo");
+		LocationConverter converter = new LocationConverter();
+		Location location = converter.add(type);
+		assertNotNull(location);
+		converter.resolve(monitor);
+		assertEquals(JDTUtils.toLocation(type), location);
+	}
+
+	@Test(expected = OperationCanceledException.class)
+	public void testCancelledResolution() throws Exception {
+		IType type = project.findType("java.Foo");
+		LocationConverter converter = new LocationConverter();
+		assertNotNull(converter.add(type));
+		NullProgressMonitor cancelled = new NullProgressMonitor();
+		cancelled.setCanceled(true);
+		converter.resolve(cancelled);
+	}
+
+	private List<ICompilationUnit> getCompilationUnits() throws Exception {
+		List<ICompilationUnit> units = new ArrayList<>();
+		for (IPackageFragmentRoot root : project.getPackageFragmentRoots()) {
+			if (root.getKind() == IPackageFragmentRoot.K_SOURCE) {
+				for (IJavaElement child : root.getChildren()) {
+					for (ICompilationUnit unit : ((IPackageFragment) child).getCompilationUnits()) {
+						if (unit.getSource().length() > 0) {
+							units.add(unit);
+						}
+					}
+				}
+			}
+		}
+		return units;
+	}
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.hover;
+
+import static org.eclipse.jdt.ls.core.internal.hover.JavaElementLabels.ALL_DEFAULT;
+import static org.eclipse.jdt.ls.core.internal.hover.JavaElementLabels.M_APP_RETURNTYPE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.ls.core.internal.WorkspaceHelper;
+import org.eclipse.jdt.ls.core.internal.managers.AbstractProjectsManagerBasedTest;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JavaElementLabelsTest extends AbstractProjectsManagerBasedTest {
+
+	private IJavaProject javaProject;
+
+	@Before
+	public void setup() throws Exception {
+		importProjects(Arrays.asList("maven/salut"));
+		javaProject = JavaCore.create(WorkspaceHelper.getProject("salut"));
+		ElementLabelCache.getInstance().clear();
+	}
+
+	@Test
+	public void testBinaryMemberLabel() throws Exception {
+		IType type = javaProject.findType("org.apache.commons.lang3.StringUtils");
+		assertTrue(type.isBinary());
+		IMethod method = type.getMethod("isEmpty", new String[] { "Ljava.lang.CharSequence;" });
+		String label = JavaElementLabels.getElementLabel(method, ALL_DEFAULT | M_APP_RETURNTYPE);
+		assertEquals("isEmpty(CharSequence) : boolean", label);
+		assertSame(label, JavaElementLabels.getElementLabel(method, ALL_DEFAULT | M_APP_RETURNTYPE));
+		assertEquals("isEmpty(CharSequence)", JavaElementLabels.getElementLabel(method, ALL_DEFAULT));
+
+		ElementLabelCache.getInstance().clear();
+		String newLabel = JavaElementLabels.getElementLabel(method, ALL_DEFAULT | M_APP_RETURNTYPE);
+		assertNotSame(label, newLabel);
+		assertEquals(label, newLabel);
+	}
+
+	@Test
+	public void testSourceMemberLabel() throws Exception {
+		IType type = javaProject.findType("org.sample.Bar");
+		IMethod method = type.getMethod("main", new String[] { "[QString;" });
+		String label = JavaElementLabels.getElementLabel(method, ALL_DEFAULT | M_APP_RETURNTYPE);
+		assertEquals("main(String[]) : void", label);
+		// labels of source members are not cached
+		assertNotSame(label, JavaElementLabels.getElementLabel(method, ALL_DEFAULT | M_APP_RETURNTYPE));
+	}
+}
@@ -14,7 +14,9 @@ package org.eclipse.jdt.ls.core.internal.javadoc;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMethod;
@@ -83,4 +85,46 @@ public class JavadocContentTest extends AbstractProjectsManagerBasedTest {
 		MarkedString javadoc = HoverInfoProvider.computeJavadoc(method);
 		assertEquals("Foo method", javadoc.getValue());
 	}
+
+	@Test
+	public void testCachedMethodJavadoc() throws Exception {
+		IType type = project.findType("org.sample.TestJavadoc");
+		assertNotNull(type);
+		IMethod method = type.getMethod("foo", new String[0]);
+		assertEquals("Foo method", HoverInfoProvider.computeJavadoc(method).getValue());
+		long hits = JavadocCache.getHitCount();
+		assertEquals("Foo method", HoverInfoProvider.computeJavadoc(method).getValue());
+		assertEquals(hits + 1, JavadocCache.getHitCount());
+		assertTrue(JavadocCache.getRetainedSize() > 0);
+
+		ICompilationUnit unit = type.getCompilationUnit();
+		unit.becomeWorkingCopy(null);
+		try {
+			String source = unit.getBuffer().getContents();
+			unit.getBuffer().setContents(source.replace("Foo method", "Bar method"));
+			unit.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			assertEquals("Bar method", HoverInfoProvider.computeJavadoc(method).getValue());
+		} finally {
+			unit.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void testCachedJavadocAfterOtherUnitReconcile() throws Exception {
+		IType type = project.findType("org.sample.TestJavadoc");
+		IMethod method = type.getMethod("foo", new String[0]);
+		ICompilationUnit otherUnit = project.findType("org.sample.Highlight").getCompilationUnit();
+		otherUnit.becomeWorkingCopy(null);
+		try {
+			assertEquals("Foo method", HoverInfoProvider.computeJavadoc(method).getValue());
+			otherUnit.getBuffer().append("\n// changed\n");
+			otherUnit.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			long hits = JavadocCache.getHitCount();
+			assertEquals("Foo method", HoverInfoProvider.computeJavadoc(method).getValue());
+			// only the entries of the reconciled unit are invalidated
+			assertEquals(hits + 1, JavadocCache.getHitCount());
+		} finally {
+			otherUnit.discardWorkingCopy();
+		}
+	}
 }
@@ -13,11 +13,13 @@
 package org.eclipse.jdt.ls.core.internal.managers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -25,6 +27,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
@@ -200,6 +203,67 @@ public class BasicFileDetectorTest {
 		}
 	}
 
+	@Test
+	public void testRescanModifiedDirectories() throws Exception {
+		Path root = Files.createTempDirectory("rescan");
+		try {
+			Path nested = Files.createDirectories(root.resolve("a/b"));
+			Path sibling = Files.createDirectories(root.resolve("c"));
+			Files.createFile(sibling.resolve("buildfile"));
+			// make the cached directories old enough to be reused
+			FileTime past = FileTime.fromMillis(System.currentTimeMillis() - 3600_000L);
+			try (Stream<Path> walk = Files.walk(root)) {
+				for (Path dir : walk.filter(Files::isDirectory).collect(Collectors.toList())) {
+					Files.setLastModifiedTime(dir, past);
+				}
+			}
+			Collection<Path> dirs = new BasicFileDetector(root, "buildfile").scan(null);
+			assertEquals("Found " + dirs, Arrays.asList(sibling), new ArrayList<>(dirs));
+
+			Files.createFile(nested.resolve("buildfile"));
+			dirs = new BasicFileDetector(root, "buildfile").scan(null);
+			assertEquals("Found " + dirs, 2, dirs.size());
+			assertTrue(dirs.contains(nested));
+
+			Files.delete(sibling.resolve("buildfile"));
+			dirs = new BasicFileDetector(root, "buildfile").scan(null);
+			assertEquals("Found " + dirs, Arrays.asList(nested), new ArrayList<>(dirs));
+		} finally {
+			FileUtils.deleteDirectory(root.toFile());
+		}
+	}
+
+	@Test
+	public void testScanGeneratedTree() throws Exception {
+		Path root = Files.createTempDirectory("generated");
+		try {
+			int[] expected = new int[1];
+			generateTree(root, 4, 6, expected);
+			BasicFileDetector detector = new BasicFileDetector(root, "buildfile");
+			Collection<Path> dirs = detector.scan(null);
+			assertEquals(expected[0], dirs.size());
+			// a second scan gives the same result
+			dirs = new BasicFileDetector(root, "buildfile").scan(null);
+			assertEquals(expected[0], dirs.size());
+		} finally {
+			FileUtils.deleteDirectory(root.toFile());
+		}
+	}
+
+	private void generateTree(Path dir, int depth, int width, int[] buildFiles) throws Exception {
+		if (depth == 0) {
+			return;
+		}
+		for (int i = 0; i < width; i++) {
+			Path child = Files.createDirectories(dir.resolve("dir" + i));
+			if (i == 0) {
+				Files.createFile(child.resolve("buildfile"));
+				buildFiles[0]++;
+			}
+			generateTree(child, depth - 1, width, buildFiles);
+		}
+	}
+
 	@SafeVarargs
 	private final <E> List<E> list(E... elements) {
 		return new ArrayList<>(Arrays.asList(elements));
@@ -13,17 +13,27 @@
 package org.eclipse.jdt.ls.core.internal.managers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.io.File;
 import java.net.URI;
+import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.ls.core.internal.ClassFileUtil;
 import org.eclipse.jdt.ls.core.internal.DisassemblerContentProvider;
 import org.eclipse.jdt.ls.core.internal.FakeContentProvider;
@@ -245,6 +255,52 @@ public class ContentProviderManagerTest extends AbstractProjectsManagerBasedTest
 		assertEquals(FakeContentProvider.returnValue, provider.getContent(sourcelessURI, monitor));
 	}
 
+	@Test
+	public void testCachedContent() throws Exception {
+		File stateLocation = Files.createTempDirectory("contentCache").toFile();
+		try {
+			when(preferences.getPreferredContentProviderIds()).thenReturn(Arrays.asList("fakeContentProvider"));
+			ContentProviderManager cachingProvider = new ContentProviderManager(preferenceManager, stateLocation);
+			FakeContentProvider.returnValue = FAKE_DECOMPILED_SOURCE;
+			assertEquals(FAKE_DECOMPILED_SOURCE, cachingProvider.getSource(sourceAvailableClassFile, monitor));
+
+			FakeContentProvider.returnValue = "something else";
+			assertEquals(FAKE_DECOMPILED_SOURCE, cachingProvider.getSource(sourceAvailableClassFile, monitor));
+			// persisted for the next sessions
+			assertEquals(FAKE_DECOMPILED_SOURCE, new ContentProviderManager(preferenceManager, stateLocation).getSource(sourceAvailableClassFile, monitor));
+
+			cachingProvider.clearCache();
+			assertEquals("something else", cachingProvider.getSource(sourceAvailableClassFile, monitor));
+		} finally {
+			FileUtils.deleteDirectory(stateLocation);
+		}
+	}
+
+	@Test
+	public void testCachedContentBeforeSourceAttachment() throws Exception {
+		importProjects("eclipse/source-attachment");
+		IProject project = WorkspaceHelper.getProject("source-attachment");
+		IClassFile classFile = JDTUtils.resolveClassFile(ClassFileUtil.getURI(project, "foo.bar"));
+		File stateLocation = Files.createTempDirectory("contentCache").toFile();
+		try {
+			when(preferences.getPreferredContentProviderIds()).thenReturn(Arrays.asList("disassemblerContentProvider"));
+			ContentProviderManager cachingProvider = new ContentProviderManager(preferenceManager, stateLocation);
+			String disassembled = cachingProvider.getSource(classFile, monitor);
+			assertNotNull(disassembled);
+			assertFalse(disassembled.contains("return sum;"));
+
+			IJavaProject javaProject = JavaCore.create(project);
+			IPath sourcePath = project.findMember("foo-sources.jar").getFullPath();
+			IClasspathEntry[] classpath = Stream.of(javaProject.getRawClasspath()).map(e -> "foo.jar".equals(e.getPath().lastSegment()) ? JavaCore.newLibraryEntry(e.getPath(), sourcePath, null) : e).toArray(IClasspathEntry[]::new);
+			javaProject.setRawClasspath(classpath, monitor);
+
+			assertTrue(cachingProvider.getSource(classFile, monitor).contains("return sum;"));
+			assertTrue(new ContentProviderManager(preferenceManager, stateLocation).getSource(classFile, monitor).contains("return sum;"));
+		} finally {
+			FileUtils.deleteDirectory(stateLocation);
+		}
+	}
+
 	private void expectLoggedError(String expected) {
 		assertTrue("expected error " + expected, logListener.getErrors().stream().filter(e -> e.contains(expected)).findAny().isPresent());
 	}
@@ -38,11 +38,14 @@ import org.eclipse.core.runtime.jobs.IJobChangeEvent;
 import org.eclipse.core.runtime.jobs.IJobChangeListener;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.ls.core.internal.ClassFileUtil;
 import org.eclipse.jdt.ls.core.internal.DependencyUtil;
+import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaProjectHelper;
 import org.eclipse.jdt.ls.core.internal.JobHelpers;
 import org.eclipse.jdt.ls.core.internal.ProjectUtils;
@@ -122,6 +125,47 @@ public class InvisibleProjectBuildSupportTest extends AbstractInvisibleProjectBa
 
 	}
 
+	@Test
+	public void testIncrementalLibDetection() throws Exception {
+		File projectFolder = createSourceFolderWithMissingLibs("incrementalLibDetection");
+		IProject project = importRootFolder(projectFolder, "Test.java");
+		IJavaProject javaProject = JavaCore.create(project);
+		addLibs(projectFolder.toPath());
+		Path libPath = projectFolder.toPath().resolve(InvisibleProjectBuildSupport.LIB_FOLDER);
+
+		projectsManager.fileChanged(libPath.resolve("foo.jar").toUri().toString(), CHANGE_TYPE.CREATED);
+		waitForBackgroundJobs();
+		IClasspathEntry[] classpath = javaProject.getRawClasspath();
+		assertEquals("Unexpected classpath:\n" + JavaProjectHelper.toString(classpath), 3, classpath.length);
+
+		//an unrelated sources jar doesn't change the classpath
+		Path barSources = libPath.resolve("bar-sources.jar");
+		Files.copy(libPath.resolve("foo-sources.jar"), barSources);
+		projectsManager.fileChanged(barSources.toUri().toString(), CHANGE_TYPE.CREATED);
+		waitForBackgroundJobs();
+		assertTrue(Arrays.equals(classpath, javaProject.getRawClasspath()));
+
+		//a new jar is picked up along with its sources
+		Path bar = libPath.resolve("bar.jar");
+		Files.copy(libPath.resolve("foo.jar"), bar);
+		projectsManager.fileChanged(bar.toUri().toString(), CHANGE_TYPE.CREATED);
+		waitForBackgroundJobs();
+		classpath = javaProject.getRawClasspath();
+		assertEquals("Unexpected classpath:\n" + JavaProjectHelper.toString(classpath), 4, classpath.length);
+		Optional<IClasspathEntry> barEntry = Arrays.stream(classpath).filter(cpe -> "bar.jar".equals(cpe.getPath().lastSegment())).findFirst();
+		assertTrue(barEntry.isPresent());
+		assertEquals("bar-sources.jar", barEntry.get().getSourceAttachmentPath().lastSegment());
+
+		//a deleted jar is dropped
+		Files.delete(bar);
+		projectsManager.fileChanged(bar.toUri().toString(), CHANGE_TYPE.DELETED);
+		waitForBackgroundJobs();
+		classpath = javaProject.getRawClasspath();
+		assertEquals("Unexpected classpath:\n" + JavaProjectHelper.toString(classpath), 3, classpath.length);
+		assertEquals("foo.jar", classpath[2].getPath().lastSegment());
+		assertNoErrors(project);
+	}
+
 	@Test
 	public void testDebounceJarDetection() throws Exception {
 		File projectFolder = createSourceFolderWithMissingLibs("dynamicLibDetection");
@@ -567,4 +611,30 @@ public class InvisibleProjectBuildSupportTest extends AbstractInvisibleProjectBa
 		assertTrue("Unexpected Javadoc:" + javadoc, javadoc.contains("The class that manages converting HTML to Markdown"));
 
 	}
+
+	@Test
+	public void testLibrariesToPrefetch() throws Exception {
+		IProject project = copyAndImportFolder("singlefile/downloadSources", "UsingRemark.java");
+
+		IPath projectRealPath = ProjectUtils.getProjectRealFolder(project);
+		URI standalone = new File(projectRealPath.toFile(), "UsingRemark.java").toURI();
+		ICompilationUnit unit = JDTUtils.resolveCompilationUnit(standalone);
+		assertNotNull(unit);
+		// unresolved imports are ignored
+		assertTrue(SourcePrefetchJob.getLibrariesToPrefetch(unit).isEmpty());
+
+		// place remark artifact in lib folder, without its sources
+		File remarkFile = DependencyUtil.getArtifact("com.kotcrab.remark", "remark", "1.2.0", null);
+		FileUtils.copyFile(remarkFile, projectRealPath.append("lib/remark.jar").toFile());
+		List<String> include = Arrays.asList("lib/**/*.jar");
+		UpdateClasspathJob.getInstance().updateClasspath(JavaCore.create(project), new ReferencedLibraries(new HashSet<>(include)));
+		waitForBackgroundJobs();
+
+		IClasspathEntry remark = JavaProjectHelper.findJarEntry(JavaCore.create(project), "remark.jar");
+		assertNotNull(remark);
+		assertNull(remark.getSourceAttachmentPath());
+		List<IClassFile> classFiles = SourcePrefetchJob.getLibrariesToPrefetch(unit);
+		assertEquals(1, classFiles.size());
+		assertEquals("Remark.class", classFiles.get(0).getElementName());
+	}
 }
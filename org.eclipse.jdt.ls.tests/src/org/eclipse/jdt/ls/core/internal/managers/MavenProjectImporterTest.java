@@ -347,6 +347,19 @@ public class MavenProjectImporterTest extends AbstractMavenBasedTest {
 		assertNoErrors(project);
 	}
 
+	@Test
+	public void testImportBatchSize() throws Exception {
+		long mb = 1024 * 1024;
+		// plenty of headroom: capped
+		assertEquals(MavenProjectImporter.MAX_PROJECTS_TO_IMPORT, MavenProjectImporter.getImportBatchSize(64 * 1024 * mb, 100 * mb));
+		// no headroom left: never below the minimum
+		assertEquals(MavenProjectImporter.MIN_PROJECTS_TO_IMPORT, MavenProjectImporter.getImportBatchSize(1024 * mb, 1000 * mb));
+		// 1g heap, 256m used, 256m reserved: 512m / 8m per project
+		assertEquals(64, MavenProjectImporter.getImportBatchSize(1024 * mb, 256 * mb));
+		// the batch shrinks as the heap fills up
+		assertTrue(MavenProjectImporter.getImportBatchSize(1024 * mb, 512 * mb) < MavenProjectImporter.getImportBatchSize(1024 * mb, 256 * mb));
+	}
+
 	private static class MavenUpdateProjectJobSpy extends JobChangeAdapter {
 
 		int updateProjectJobCalled;
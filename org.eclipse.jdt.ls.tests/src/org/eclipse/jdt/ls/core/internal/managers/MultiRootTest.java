@@ -105,6 +105,24 @@ public class MultiRootTest extends AbstractProjectsManagerBasedTest {
 		}
 	}
 
+	@Test
+	public void testAddAndRemoveFolders() throws Exception {
+		importProjects(Arrays.asList(EclipseFolder, MavenFolder));
+		assertNotNull(WorkspaceHelper.getProject("salut"));
+
+		File added = copyFiles(MavenMultiFolder, false);
+		File removed = new File(getWorkingProjectDirectory(), MavenFolder);
+		Job job = projectsManager.updateWorkspaceFolders(Arrays.asList(Path.fromOSString(added.getAbsolutePath())), Arrays.asList(Path.fromOSString(removed.getAbsolutePath())));
+		job.join();
+
+		// the removal is part of the returned job
+		assertEquals(4, WorkspaceHelper.getAllProjects().size()); // includes the default project
+		assertNotNull(WorkspaceHelper.getProject("hello"));
+		assertNull(WorkspaceHelper.getProject("salut"));
+		assertNotNull(WorkspaceHelper.getProject("project1"));
+		assertNotNull(WorkspaceHelper.getProject("project2"));
+	}
+
 	private void updateProjects(final Collection<String> added, final Collection<String> removed) throws Exception {
 		final ArrayList<IPath> addedRootPaths = new ArrayList<>();
 		for (String a : added) {
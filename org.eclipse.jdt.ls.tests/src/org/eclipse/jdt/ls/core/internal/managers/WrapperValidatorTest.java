@@ -30,6 +30,9 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.FileLocator;
@@ -108,6 +111,27 @@ public class WrapperValidatorTest extends AbstractGradleBasedTest{
 		assertEquals("1cef53de8dc192036e7b0cc47584449b0cf570a00d560bfaa6c9eabe06e1fc06", sha256);
 	}
 
+	@Test
+	public void testConcurrentGradleWrapper() throws Exception {
+		File file = new File(getSourceProjectDirectory(), "gradle/simple-gradle");
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<ValidationResult>> results = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				results.add(executor.submit(() -> new WrapperValidator(100).checkWrapper(file.getAbsolutePath())));
+			}
+			for (Future<ValidationResult> result : results) {
+				assertTrue(result.get().isValid());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		int size = WrapperValidator.size();
+		assertTrue(size > 0);
+		new WrapperValidator(100).checkWrapper(file.getAbsolutePath());
+		assertEquals(size, WrapperValidator.size());
+	}
+
 	@Test
 	public void testMissingSha256() throws Exception {
 		WrapperValidator wrapperValidator = new WrapperValidator(100);